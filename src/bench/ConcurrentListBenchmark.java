@@ -0,0 +1,98 @@
+package bench;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import collections.list.ConcurrentCustomArrayList;
+import collections.list.ConcurrentCustomArrayList.Strategy;
+import collections.list.CustomArrayList;
+
+// read/write mix throughput of both ConcurrentCustomArrayList strategies against a CustomArrayList
+// behind one global lock; each operation is a get, a contains, or (at the given ratio) an add/remove pair
+public class ConcurrentListBenchmark {
+    private static final int LIST_SIZE = 1_000;
+    private static final int OPS_PER_THREAD = 200_000;
+    private static final double[] WRITE_RATIOS = {0.0, 0.001, 0.01, 0.1};
+    // keeps the JIT from discarding the reads
+    private static volatile long blackhole;
+
+    private interface Ops {
+        Integer get(int index);
+        boolean contains(Integer element);
+        void add(Integer element);
+        void remove(Integer element);
+        int size();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        for (double writeRatio : WRITE_RATIOS) {
+            CustomArrayList<Integer> plain = new CustomArrayList<>();
+            fill(plain::add);
+            report("global-lock", writeRatio, threads, run(threads, writeRatio, new Ops() {
+                public synchronized Integer get(int index) { return plain.elementAt(index); }
+                public synchronized boolean contains(Integer element) { return plain.contains(element); }
+                public synchronized void add(Integer element) { plain.add(element); }
+                public synchronized void remove(Integer element) { plain.remove(element); }
+                public synchronized int size() { return plain.size(); }
+            }));
+
+            for (Strategy strategy : Strategy.values()) {
+                ConcurrentCustomArrayList<Integer> list = ConcurrentCustomArrayList.create(strategy);
+                fill(list::add);
+                report(strategy.name().toLowerCase(), writeRatio, threads, run(threads, writeRatio, new Ops() {
+                    public Integer get(int index) { return list.elementAt(index); }
+                    public boolean contains(Integer element) { return list.contains(element); }
+                    public void add(Integer element) { list.add(element); }
+                    public void remove(Integer element) { list.remove(element); }
+                    public int size() { return list.size(); }
+                }));
+            }
+        }
+    }
+
+    private static void fill(Consumer<Integer> add) {
+        for (int i = 0; i < LIST_SIZE; i++) {
+            add.accept(i);
+        }
+    }
+
+    private static long run(int threads, double writeRatio, Ops ops) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long sink = 0;
+                for (int i = 0; i < OPS_PER_THREAD; i++) {
+                    double roll = random.nextDouble();
+                    if (roll < writeRatio) {
+                        Integer element = LIST_SIZE + random.nextInt(LIST_SIZE);
+                        ops.add(element);
+                        ops.remove(element);
+                    } else if (roll < 0.5) {
+                        sink += ops.get(random.nextInt(LIST_SIZE / 2));
+                    } else if (ops.contains(random.nextInt(LIST_SIZE))) {
+                        sink++;
+                    }
+                }
+                blackhole = sink;
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+        return System.nanoTime() - begin;
+    }
+
+    private static void report(String name, double writeRatio, int threads, long nanos) {
+        double ops = (double) threads * OPS_PER_THREAD;
+        System.out.printf("%-16s writes=%5.1f%% threads=%d  %8.2f Mops/s%n", name, writeRatio * 100, threads, ops / nanos * 1e3);
+    }
+}
@@ -0,0 +1,98 @@
+package bench;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import collections.list.CustomLinkedList;
+import collections.queue.CustomConcurrentLinkedQueue;
+import collections.queue.CustomMpscArrayQueue;
+
+// producer/consumer throughput of the lock-free queues against a synchronized CustomLinkedList
+public class ConcurrentQueueBenchmark {
+    private static final int OPS_PER_PRODUCER = 2_000_000;
+    private static final int[] PRODUCER_COUNTS = {1, 2, 4, 8};
+    private static final int ROUNDS = 3;
+
+    private static final class SynchronizedLinkedQueue {
+        private final CustomLinkedList<Integer> list = new CustomLinkedList<>();
+
+        synchronized boolean offer(Integer element) {
+            list.addLast(element);
+            return true;
+        }
+
+        synchronized Integer poll() {
+            if (list.isEmpty()) {
+                return null;
+            }
+            Integer first = list.getFirst().get();
+            list.remove(first);
+            return first;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        for (int producers : PRODUCER_COUNTS) {
+            for (int round = 0; round < ROUNDS; round++) {
+                SynchronizedLinkedQueue locked = new SynchronizedLinkedQueue();
+                report("synchronized-linked", producers, producers, run(producers, producers, locked::offer, locked::poll));
+
+                CustomConcurrentLinkedQueue<Integer> linked = new CustomConcurrentLinkedQueue<>();
+                report("lock-free-linked", producers, producers,
+                        run(producers, producers, linked::offer, () -> linked.poll().orElse(null)));
+
+                CustomMpscArrayQueue<Integer> mpsc = new CustomMpscArrayQueue<>(1 << 16, producers == 1);
+                report(producers == 1 ? "spsc-array" : "mpsc-array", producers, 1,
+                        run(producers, 1, mpsc::offer, () -> mpsc.poll().orElse(null)));
+            }
+        }
+    }
+
+    private static long run(int producers, int consumers, Predicate<Integer> offer, Supplier<Integer> poll)
+            throws InterruptedException {
+        long total = (long) producers * OPS_PER_PRODUCER;
+        AtomicLong consumed = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers + consumers];
+        Integer item = 42;
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                await(start);
+                for (int i = 0; i < OPS_PER_PRODUCER; i++) {
+                    while (!offer.test(item)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                await(start);
+                while (consumed.get() < total) {
+                    if (poll.get() != null) {
+                        consumed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) thread.start();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) thread.join();
+        return System.nanoTime() - begin;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void report(String name, int producers, int consumers, long nanos) {
+        double ops = (double) producers * OPS_PER_PRODUCER;
+        System.out.printf("%-20s producers=%d consumers=%d  %8.2f Mops/s%n", name, producers, consumers, ops / nanos * 1e3);
+    }
+}
@@ -0,0 +1,66 @@
+package bench;
+
+import java.util.concurrent.CountDownLatch;
+import collections.stack.ConcurrentCustomStack;
+import collections.stack.CustomStack;
+
+// push/pop pair throughput from 1 to N threads: lock-free stack against a synchronized CustomStack
+public class ConcurrentStackBenchmark {
+    private static final int PAIRS_PER_THREAD = 2_000_000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            for (int round = 0; round < ROUNDS; round++) {
+                CustomStack<Integer> locked = new CustomStack<>();
+                report("synchronized", threads, run(threads, () -> {
+                    Integer item = 7;
+                    for (int i = 0; i < PAIRS_PER_THREAD; i++) {
+                        synchronized (locked) {
+                            locked.push(item);
+                        }
+                        synchronized (locked) {
+                            locked.pop();
+                        }
+                    }
+                }));
+
+                ConcurrentCustomStack<Integer> lockFree = new ConcurrentCustomStack<>();
+                report("treiber+elimination", threads, run(threads, () -> {
+                    Integer item = 7;
+                    for (int i = 0; i < PAIRS_PER_THREAD; i++) {
+                        lockFree.push(item);
+                        lockFree.pop();
+                    }
+                }));
+            }
+        }
+    }
+
+    private static long run(int threads, Runnable body) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                body.run();
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+        return System.nanoTime() - begin;
+    }
+
+    private static void report(String name, int threads, long nanos) {
+        double pairs = (double) threads * PAIRS_PER_THREAD;
+        System.out.printf("%-20s threads=%-3d %8.2f M push/pop pairs per second%n", name, threads, pairs / nanos * 1e3);
+    }
+}
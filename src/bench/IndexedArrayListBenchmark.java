@@ -0,0 +1,49 @@
+package bench;
+
+import java.util.Random;
+import collections.list.CustomArrayList;
+
+// memory and lookup latency of CustomArrayList with and without the indexed mode
+public class IndexedArrayListBenchmark {
+    private static final int[] SIZES = {1_000, 100_000, 1_000_000};
+    private static final int LOOKUPS = 100_000;
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            for (boolean indexed : new boolean[]{false, true}) {
+                long heapBefore = usedHeap();
+                CustomArrayList<Integer> list = new CustomArrayList<>(size);
+                list.setIndexed(indexed);
+                long buildStart = System.nanoTime();
+                for (int i = 0; i < size; i++) {
+                    list.add(i);
+                }
+                long buildNanos = System.nanoTime() - buildStart;
+                long heapUsed = usedHeap() - heapBefore;
+
+                Random random = new Random(size);
+                int lookups = indexed ? LOOKUPS : Math.min(LOOKUPS, 50_000_000 / size);
+                long found = 0;
+                long lookupStart = System.nanoTime();
+                for (int i = 0; i < lookups; i++) {
+                    if (list.contains(random.nextInt(size * 2))) {
+                        found++;
+                    }
+                }
+                long lookupNanos = System.nanoTime() - lookupStart;
+
+                System.out.printf("%-8s size=%-9d heap=%10d bytes  build=%8.2f ms  contains=%10.1f ns/op  (hits=%d)%n",
+                        indexed ? "indexed" : "scan", size, heapUsed, buildNanos / 1e6,
+                        (double) lookupNanos / lookups, found);
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,66 @@
+package bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import collections.list.CustomLinkedList;
+import core.Iterator;
+
+// compares the node-relinking merge sort against the previous copy-sort-rebuild approach
+public class LinkedListSortBenchmark {
+    private static final int[] SIZES = {1_000, 100_000, 1_000_000};
+    private static final int ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            for (int round = 0; round < ROUNDS; round++) {
+                report("relink", size, round, measure(size, list -> list.sort(Comparator.naturalOrder())));
+                report("rebuild", size, round, measure(size, LinkedListSortBenchmark::copySortRebuild));
+            }
+        }
+    }
+
+    private static long[] measure(int size, java.util.function.Consumer<CustomLinkedList<Integer>> sort) {
+        CustomLinkedList<Integer> list = randomList(size);
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        sort.accept(list);
+        return new long[]{System.nanoTime() - start, allocatedBytes() - bytes};
+    }
+
+    private static void report(String name, int size, int round, long[] result) {
+        System.out.printf("%-8s size=%-9d round=%d  %8.2f ms  %12d bytes allocated%n",
+                name, size, round, result[0] / 1e6, result[1]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void copySortRebuild(CustomLinkedList<Integer> list) {
+        Integer[] arr = new Integer[list.size()];
+        Iterator<Integer> iterator = list.iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            arr[i] = iterator.nextElement();
+        }
+        Arrays.sort(arr, Comparator.naturalOrder());
+        list.clear();
+        for (Integer element : arr) {
+            list.add(element);
+        }
+    }
+
+    private static CustomLinkedList<Integer> randomList(int size) {
+        Random random = new Random(size);
+        CustomLinkedList<Integer> list = new CustomLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt());
+        }
+        return list;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,183 @@
+package bench.jmh;
+
+import collections.list.CustomArrayList;
+import core.Iterator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// CustomArrayList against java.util.ArrayList; each operation has a custom and a jdk method so they sort
+// next to each other in the results
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CustomArrayListBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    @Param({"Integer", "String"})
+    String elementType;
+
+    private Object[] values;
+    private int[] indices;
+    private int cursor;
+    private CustomArrayList<Object> custom;
+    private ArrayList<Object> jdk;
+    private CustomArrayList<Object> customUnsorted;
+    private ArrayList<Object> jdkUnsorted;
+    private CustomArrayList<Object> customScratch;
+    private ArrayList<Object> jdkScratch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = Elements.generate(elementType, size, 42);
+        indices = Elements.indices(size, 7);
+        custom = new CustomArrayList<>(size);
+        jdk = new ArrayList<>(size);
+        for (Object value : values) {
+            custom.add(value);
+            jdk.add(value);
+        }
+        customUnsorted = new CustomArrayList<>(size);
+        jdkUnsorted = new ArrayList<>(size);
+        for (Object value : values) {
+            customUnsorted.add(value);
+            jdkUnsorted.add(value);
+        }
+        customScratch = new CustomArrayList<>(size);
+        jdkScratch = new ArrayList<>(size);
+    }
+
+    private int nextIndex() {
+        return indices[cursor++ & Elements.PROBE_MASK];
+    }
+
+    // builds the whole list from an empty one, so growth is part of the cost
+    @Benchmark
+    public Object addCustom() {
+        CustomArrayList<Object> list = new CustomArrayList<>();
+        for (Object value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Object addJdk() {
+        ArrayList<Object> list = new ArrayList<>();
+        for (Object value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Object getCustom() {
+        return custom.elementAt(nextIndex());
+    }
+
+    @Benchmark
+    public Object getJdk() {
+        return jdk.get(nextIndex());
+    }
+
+    @Benchmark
+    public boolean containsCustom() {
+        return custom.contains(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean containsJdk() {
+        return jdk.contains(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public Object indexOfCustom() {
+        return custom.indexOf(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public int indexOfJdk() {
+        return jdk.indexOf(values[nextIndex()]);
+    }
+
+    // removes a present element and appends it again so the size stays fixed across invocations
+    @Benchmark
+    public Object removeCustom() {
+        Object value = values[nextIndex()];
+        custom.remove(value);
+        custom.add(value);
+        return custom;
+    }
+
+    @Benchmark
+    public Object removeJdk() {
+        Object value = values[nextIndex()];
+        jdk.remove(value);
+        jdk.add(value);
+        return jdk;
+    }
+
+    // the copy into the scratch list is included in both arms; the add benchmarks show its share
+    @Benchmark
+    public Object sortCustom() {
+        customScratch.clear();
+        customScratch.addAll(customUnsorted);
+        customScratch.sort(Elements.NATURAL);
+        return customScratch;
+    }
+
+    @Benchmark
+    public Object sortJdk() {
+        jdkScratch.clear();
+        jdkScratch.addAll(jdkUnsorted);
+        jdkScratch.sort(Elements.NATURAL);
+        return jdkScratch;
+    }
+
+    @Benchmark
+    public Object filterCustom() {
+        return custom.filter(Elements.EVEN_HASH);
+    }
+
+    @Benchmark
+    public Object filterJdk() {
+        return jdk.stream().filter(Elements.EVEN_HASH).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int iteratorCustom() {
+        int hash = 0;
+        Iterator<Object> iterator = custom.iterator();
+        while (iterator.hasNext()) {
+            hash += iterator.nextElement().hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public int iteratorJdk() {
+        int hash = 0;
+        java.util.Iterator<Object> iterator = jdk.iterator();
+        while (iterator.hasNext()) {
+            hash += iterator.next().hashCode();
+        }
+        return hash;
+    }
+
+    // slice copies, so the baseline copies the subList view too
+    @Benchmark
+    public Object sliceCustom() {
+        return custom.slice(size / 4, size - size / 4);
+    }
+
+    @Benchmark
+    public Object sliceJdk() {
+        return new ArrayList<>(jdk.subList(size / 4, size - size / 4));
+    }
+}
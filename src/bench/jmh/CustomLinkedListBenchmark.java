@@ -0,0 +1,168 @@
+package bench.jmh;
+
+import collections.list.CustomLinkedList;
+import core.Iterator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// CustomLinkedList against java.util.LinkedList. There is no slice on either list, so it is not covered here
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CustomLinkedListBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    @Param({"Integer", "String"})
+    String elementType;
+
+    private Object[] values;
+    private int[] indices;
+    private int cursor;
+    private CustomLinkedList<Object> custom;
+    private LinkedList<Object> jdk;
+    private CustomLinkedList<Object> customUnsorted;
+    private LinkedList<Object> jdkUnsorted;
+    private CustomLinkedList<Object> customScratch;
+    private LinkedList<Object> jdkScratch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = Elements.generate(elementType, size, 42);
+        indices = Elements.indices(size, 7);
+        custom = new CustomLinkedList<>();
+        jdk = new LinkedList<>();
+        customUnsorted = new CustomLinkedList<>();
+        jdkUnsorted = new LinkedList<>();
+        for (Object value : values) {
+            custom.add(value);
+            jdk.add(value);
+            customUnsorted.add(value);
+            jdkUnsorted.add(value);
+        }
+        customScratch = new CustomLinkedList<>();
+        jdkScratch = new LinkedList<>();
+    }
+
+    private int nextIndex() {
+        return indices[cursor++ & Elements.PROBE_MASK];
+    }
+
+    @Benchmark
+    public Object addCustom() {
+        CustomLinkedList<Object> list = new CustomLinkedList<>();
+        for (Object value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Object addJdk() {
+        LinkedList<Object> list = new LinkedList<>();
+        for (Object value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public Object getCustom() {
+        return custom.get(nextIndex());
+    }
+
+    @Benchmark
+    public Object getJdk() {
+        return jdk.get(nextIndex());
+    }
+
+    @Benchmark
+    public boolean containsCustom() {
+        return custom.contains(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean containsJdk() {
+        return jdk.contains(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public Object indexOfCustom() {
+        return custom.indexOf(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public int indexOfJdk() {
+        return jdk.indexOf(values[nextIndex()]);
+    }
+
+    // removes a present element and appends it again so the size stays fixed across invocations
+    @Benchmark
+    public Object removeCustom() {
+        Object value = values[nextIndex()];
+        custom.remove(value);
+        custom.add(value);
+        return custom;
+    }
+
+    @Benchmark
+    public Object removeJdk() {
+        Object value = values[nextIndex()];
+        jdk.remove(value);
+        jdk.add(value);
+        return jdk;
+    }
+
+    // the copy into the scratch list is included in both arms; the add benchmarks show its share
+    @Benchmark
+    public Object sortCustom() {
+        customScratch.clear();
+        customScratch.addAll(customUnsorted);
+        customScratch.sort(Elements.NATURAL);
+        return customScratch;
+    }
+
+    @Benchmark
+    public Object sortJdk() {
+        jdkScratch.clear();
+        jdkScratch.addAll(jdkUnsorted);
+        jdkScratch.sort(Elements.NATURAL);
+        return jdkScratch;
+    }
+
+    @Benchmark
+    public Object filterCustom() {
+        return custom.filter(Elements.EVEN_HASH);
+    }
+
+    @Benchmark
+    public Object filterJdk() {
+        return jdk.stream().filter(Elements.EVEN_HASH).collect(Collectors.toCollection(LinkedList::new));
+    }
+
+    @Benchmark
+    public int iteratorCustom() {
+        int hash = 0;
+        Iterator<Object> iterator = custom.iterator();
+        while (iterator.hasNext()) {
+            hash += iterator.nextElement().hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public int iteratorJdk() {
+        int hash = 0;
+        java.util.Iterator<Object> iterator = jdk.iterator();
+        while (iterator.hasNext()) {
+            hash += iterator.next().hashCode();
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,61 @@
+package bench.jmh;
+
+import collections.list.CustomLinkedList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// add/remove churn on CustomLinkedList with and without the node pool. Read gc.alloc.rate.norm from the
+// GC profiler: with a warm pool both benchmarks should report about 0 B/op, without it one node per add.
+// Values are boxed up front so the element itself never allocates
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CustomLinkedListPoolBenchmark {
+    @Param({"1000", "100000"})
+    int size;
+
+    @Param({"0", "1024"})
+    int pool;
+
+    @Param({"64"})
+    int batch;
+
+    private Object[] values;
+    private int cursor;
+    private CustomLinkedList<Object> queue;
+    private CustomLinkedList<Object> scratch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = Elements.generate("Integer", Elements.PROBES, 42);
+        queue = new CustomLinkedList<>();
+        queue.setNodePool(pool);
+        for (int i = 0; i < size; i++) {
+            queue.addLast(values[i & Elements.PROBE_MASK]);
+        }
+        scratch = new CustomLinkedList<>();
+        scratch.setNodePool(pool);
+    }
+
+    // FIFO churn at a fixed size: the node unlinked at the head is the one the next append reuses
+    @Benchmark
+    public Object churn() {
+        queue.addLast(values[cursor++ & Elements.PROBE_MASK]);
+        queue.removeRange(0, 1);
+        return queue;
+    }
+
+    // fills a short chain and drops it with clear(), the pattern that turns whole chains into garbage
+    @Benchmark
+    public Object fillAndClear() {
+        for (int i = 0; i < batch; i++) {
+            scratch.addLast(values[i]);
+        }
+        scratch.clear();
+        return scratch;
+    }
+}
@@ -0,0 +1,119 @@
+package bench.jmh;
+
+import collections.stack.CustomStack;
+import core.Iterator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+// CustomStack against java.util.ArrayDeque used as a stack. A stack only exposes push, pop, peek,
+// contains and iteration, so those stand in for add, remove and get; there is no sort, filter or slice
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CustomStackBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    @Param({"Integer", "String"})
+    String elementType;
+
+    private Object[] values;
+    private int[] indices;
+    private int cursor;
+    private CustomStack<Object> custom;
+    private ArrayDeque<Object> jdk;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = Elements.generate(elementType, size, 42);
+        indices = Elements.indices(size, 7);
+        custom = new CustomStack<>(size);
+        jdk = new ArrayDeque<>(size);
+        for (Object value : values) {
+            custom.push(value);
+            jdk.push(value);
+        }
+    }
+
+    private int nextIndex() {
+        return indices[cursor++ & Elements.PROBE_MASK];
+    }
+
+    @Benchmark
+    public Object pushCustom() {
+        CustomStack<Object> stack = new CustomStack<>();
+        for (Object value : values) {
+            stack.push(value);
+        }
+        return stack;
+    }
+
+    @Benchmark
+    public Object pushJdk() {
+        ArrayDeque<Object> stack = new ArrayDeque<>();
+        for (Object value : values) {
+            stack.push(value);
+        }
+        return stack;
+    }
+
+    // pops the top and pushes it back so the size stays fixed across invocations
+    @Benchmark
+    public Object popCustom() {
+        Object top = custom.pop().get();
+        custom.push(top);
+        return top;
+    }
+
+    @Benchmark
+    public Object popJdk() {
+        Object top = jdk.pop();
+        jdk.push(top);
+        return top;
+    }
+
+    @Benchmark
+    public Object peekCustom() {
+        return custom.peek();
+    }
+
+    @Benchmark
+    public Object peekJdk() {
+        return jdk.peek();
+    }
+
+    @Benchmark
+    public boolean containsCustom() {
+        return custom.contains(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean containsJdk() {
+        return jdk.contains(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public int iteratorCustom() {
+        int hash = 0;
+        Iterator<Object> iterator = custom.iterator();
+        while (iterator.hasNext()) {
+            hash += iterator.nextElement().hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public int iteratorJdk() {
+        int hash = 0;
+        java.util.Iterator<Object> iterator = jdk.iterator();
+        while (iterator.hasNext()) {
+            hash += iterator.next().hashCode();
+        }
+        return hash;
+    }
+}
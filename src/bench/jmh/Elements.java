@@ -0,0 +1,52 @@
+package bench.jmh;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.Predicate;
+
+// shared element data for the JMH suite: distinct boxed values in a seeded shuffle, and a fixed ring of
+// random indices so per-operation benchmarks do not pay for Random in the measured loop
+final class Elements {
+    static final int PROBES = 1024;
+    static final int PROBE_MASK = PROBES - 1;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final Comparator<Object> NATURAL = (left, right) -> ((Comparable) left).compareTo(right);
+    // keeps roughly half the elements for both Integer and String
+    static final Predicate<Object> EVEN_HASH = element -> (element.hashCode() & 1) == 0;
+
+    private Elements() {}
+
+    static Object[] generate(String type, int size, long seed) {
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            switch (type) {
+                case "Integer":
+                    values[i] = i;
+                    break;
+                case "String":
+                    values[i] = "element-" + i;
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown element type: " + type);
+            }
+        }
+        Random random = new Random(seed);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Object swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    static int[] indices(int size, long seed) {
+        Random random = new Random(seed);
+        int[] indices = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            indices[i] = random.nextInt(size);
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,134 @@
+package bench.jmh;
+
+import collections.list.CustomArrayList;
+import collections.list.CustomLinkedList;
+import collections.list.UnrolledLinkedList;
+import core.Iterator;
+import core.ListCursor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// UnrolledLinkedList against the two lists it sits between: CustomLinkedList (cheap splice, pointer-chasing
+// traversal) and CustomArrayList (contiguous traversal, O(n) middle insert). Middle inserts are paired
+// with a removal at the same position so the size stays fixed across invocations
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class UnrolledLinkedListBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"16", "64", "256"})
+    int chunkCapacity;
+
+    private Object[] values;
+    private int[] indices;
+    private int cursor;
+    private UnrolledLinkedList<Object> unrolled;
+    private UnrolledLinkedList<Object> unrolledIndexed;
+    private CustomLinkedList<Object> linked;
+    private CustomArrayList<Object> array;
+    private CustomArrayList<Object> single;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = Elements.generate("Integer", size, 42);
+        indices = Elements.indices(size, 7);
+        unrolled = new UnrolledLinkedList<>(chunkCapacity);
+        unrolledIndexed = new UnrolledLinkedList<>(chunkCapacity);
+        unrolledIndexed.setIndexed(true);
+        linked = new CustomLinkedList<>();
+        array = new CustomArrayList<>();
+        for (Object value : values) {
+            unrolled.add(value);
+            unrolledIndexed.add(value);
+            linked.add(value);
+            array.add(value);
+        }
+        single = new CustomArrayList<>();
+        single.add(values[0]);
+    }
+
+    private int nextIndex() {
+        return indices[cursor++ & Elements.PROBE_MASK];
+    }
+
+    @Benchmark
+    public int traverseUnrolled() {
+        int hash = 0;
+        Iterator<Object> iterator = unrolled.iterator();
+        while (iterator.hasNext()) {
+            hash += iterator.nextElement().hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public int traverseLinked() {
+        int hash = 0;
+        Iterator<Object> iterator = linked.iterator();
+        while (iterator.hasNext()) {
+            hash += iterator.nextElement().hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public int traverseArray() {
+        int hash = 0;
+        Iterator<Object> iterator = array.iterator();
+        while (iterator.hasNext()) {
+            hash += iterator.nextElement().hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public Object getUnrolled() {
+        return unrolled.elementAt(nextIndex());
+    }
+
+    @Benchmark
+    public Object getUnrolledIndexed() {
+        return unrolledIndexed.elementAt(nextIndex());
+    }
+
+    @Benchmark
+    public Object getLinked() {
+        return linked.get(nextIndex());
+    }
+
+    @Benchmark
+    public Object getArray() {
+        return array.elementAt(nextIndex());
+    }
+
+    @Benchmark
+    public Object insertMiddleUnrolled() {
+        int middle = size / 2;
+        unrolled.insert(middle, values[nextIndex()]);
+        return unrolled.removeAt(middle);
+    }
+
+    // the cursor walk to the middle is part of the cost, as it would be for any positional insert
+    @Benchmark
+    public Object insertMiddleLinked() {
+        ListCursor<Object> position = linked.cursor(size / 2);
+        position.insert(values[nextIndex()]);
+        position.previous();
+        position.remove();
+        return linked;
+    }
+
+    @Benchmark
+    public Object insertMiddleArray() {
+        int middle = size / 2;
+        array.insertAll(middle, single);
+        array.removeRange(middle, middle + 1);
+        return array;
+    }
+}
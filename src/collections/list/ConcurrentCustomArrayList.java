@@ -0,0 +1,471 @@
+package collections.list;
+
+import core.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+// thread-safe CustomArrayList for read-mostly workloads. OPTIMISTIC_READ guards a growable array with a
+// StampedLock whose optimistic reads never block each other; COPY_ON_WRITE publishes an immutable array
+// on every write so reads and iteration take no lock at all. Iterators walk a snapshot and do not support remove
+public abstract class ConcurrentCustomArrayList<T> implements List<T>, Collection<T>, Sortable<T>, Filterable<T> {
+
+    public enum Strategy {
+        OPTIMISTIC_READ,
+        COPY_ON_WRITE
+    }
+
+    public static <T> ConcurrentCustomArrayList<T> create(Strategy strategy) {
+        switch (strategy) {
+            case OPTIMISTIC_READ:
+                return new OptimisticReadList<>();
+            case COPY_ON_WRITE:
+                return new CopyOnWriteList<>();
+            default:
+                throw new IllegalArgumentException("unknown strategy: " + strategy);
+        }
+    }
+
+    ConcurrentCustomArrayList() {
+    }
+
+    public abstract T elementAt(int index);
+    public abstract boolean set(int index, T element);
+    public abstract void addAll(Collection<T> collection);
+    public abstract Strategy strategy();
+
+    // exact-size array of the current elements; callers must not modify it
+    abstract Object[] snapshot();
+
+    static void checkNotNull(Object element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null element");
+        }
+    }
+
+    static int indexOf(Object[] elements, int size, Object element) {
+        for (int i = 0; i < size; i++) {
+            if (element.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Optional<T> get(int index) {
+        return Optional.of(elementAt(index));
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("cannot find null element");
+        }
+        return indexOf(element).isPresent();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        for (Object element : snapshot()) {
+            action.accept((T) element);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<T> filter(Predicate<T> predicate) {
+        CustomArrayList<T> filtered = new CustomArrayList<>();
+        for (Object element : snapshot()) {
+            if (predicate.test((T) element)) {
+                filtered.add((T) element);
+            }
+        }
+        return filtered;
+    }
+
+    // no version counter to check against, so the view recounts on every size() call
+    @Override
+    public Collection<T> filterView(Predicate<T> predicate) {
+        return new FilteredView<>(this, predicate, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public CustomArrayList<T> slice(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        Object[] elements = snapshot();
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > elements.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        CustomArrayList<T> subList = new CustomArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            subList.add((T) elements[i]);
+        }
+        return subList;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T[] toArray() {
+        Object[] elements = snapshot();
+        return (T[]) Arrays.copyOf(elements, elements.length);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Object[] elements = snapshot();
+        return new Iterator<T>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < elements.length;
+            }
+
+            @Override
+            public Optional<T> next() {
+                return Optional.of(nextElement());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T nextElement() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (T) elements[currentIndex++];
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("snapshot iterators do not support remove");
+            }
+        };
+    }
+
+    private static final class OptimisticReadList<T> extends ConcurrentCustomArrayList<T> {
+        private static final int DEFAULT_CAPACITY = 10;
+        private final StampedLock lock = new StampedLock();
+        private Object[] elements = new Object[DEFAULT_CAPACITY];
+        private int size;
+
+        @Override
+        public Strategy strategy() {
+            return Strategy.OPTIMISTIC_READ;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T elementAt(int index) {
+            long stamp = lock.tryOptimisticRead();
+            Object[] current = elements;
+            int currentSize = size;
+            Object element = index >= 0 && index < currentSize && index < current.length ? current[index] : null;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    currentSize = size;
+                    element = index >= 0 && index < currentSize ? elements[index] : null;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            if (index < 0 || index >= currentSize) {
+                throw new IndexOutOfBoundsException("index out of bounds for ConcurrentCustomArrayList of size: " + currentSize);
+            }
+            return (T) element;
+        }
+
+        @Override
+        public Optional<Integer> indexOf(T element) {
+            if (element == null) {
+                throw new IllegalArgumentException("cannot find null element");
+            }
+            long stamp = lock.tryOptimisticRead();
+            Object[] current = elements;
+            int index = indexOf(current, Math.min(size, current.length), element);
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    index = indexOf(elements, size, element);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return index < 0 ? Optional.empty() : Optional.of(index);
+        }
+
+        @Override
+        public int size() {
+            long stamp = lock.tryOptimisticRead();
+            int currentSize = size;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    currentSize = size;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return currentSize;
+        }
+
+        @Override
+        Object[] snapshot() {
+            long stamp = lock.tryOptimisticRead();
+            Object[] current = elements;
+            Object[] copy = Arrays.copyOf(current, Math.min(size, current.length));
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    copy = Arrays.copyOf(elements, size);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return copy;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > elements.length) {
+                elements = Arrays.copyOf(elements, Math.max(required, elements.length * 2));
+            }
+        }
+
+        @Override
+        public void add(T element) {
+            checkNotNull(element);
+            long stamp = lock.writeLock();
+            try {
+                ensureCapacity(size + 1);
+                elements[size++] = element;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public void addAll(Collection<T> collection) {
+            Object[] incoming = new Object[collection.size()];
+            int count = 0;
+            Iterator<T> iterator = collection.iterator();
+            while (iterator.hasNext() && count < incoming.length) {
+                T element = iterator.nextElement();
+                checkNotNull(element);
+                incoming[count++] = element;
+            }
+            long stamp = lock.writeLock();
+            try {
+                ensureCapacity(size + count);
+                System.arraycopy(incoming, 0, elements, size, count);
+                size += count;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public boolean set(int index, T element) {
+            if (element == null) {
+                return false;
+            }
+            long stamp = lock.writeLock();
+            try {
+                if (index < 0 || index >= size) {
+                    return false;
+                }
+                elements[index] = element;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public void remove(T element) {
+            if (element == null) {
+                throw new IllegalArgumentException("cannot remove null element");
+            }
+            long stamp = lock.writeLock();
+            try {
+                int index = indexOf(elements, size, element);
+                if (index >= 0) {
+                    System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+                    elements[--size] = null;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        public void clear() {
+            long stamp = lock.writeLock();
+            try {
+                Arrays.fill(elements, 0, size, null);
+                size = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void sort(Comparator<T> comparator) {
+            long stamp = lock.writeLock();
+            try {
+                Arrays.sort((T[]) elements, 0, size, comparator);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    private static final class CopyOnWriteList<T> extends ConcurrentCustomArrayList<T> {
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private volatile Object[] array = new Object[0];
+
+        @Override
+        public Strategy strategy() {
+            return Strategy.COPY_ON_WRITE;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T elementAt(int index) {
+            Object[] current = array;
+            if (index < 0 || index >= current.length) {
+                throw new IndexOutOfBoundsException("index out of bounds for ConcurrentCustomArrayList of size: " + current.length);
+            }
+            return (T) current[index];
+        }
+
+        @Override
+        public Optional<Integer> indexOf(T element) {
+            if (element == null) {
+                throw new IllegalArgumentException("cannot find null element");
+            }
+            Object[] current = array;
+            int index = indexOf(current, current.length, element);
+            return index < 0 ? Optional.empty() : Optional.of(index);
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+
+        @Override
+        Object[] snapshot() {
+            return array;
+        }
+
+        @Override
+        public void add(T element) {
+            checkNotNull(element);
+            writeLock.lock();
+            try {
+                Object[] current = array;
+                Object[] next = Arrays.copyOf(current, current.length + 1);
+                next[current.length] = element;
+                array = next;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        @Override
+        public void addAll(Collection<T> collection) {
+            Object[] incoming = new Object[collection.size()];
+            int count = 0;
+            Iterator<T> iterator = collection.iterator();
+            while (iterator.hasNext() && count < incoming.length) {
+                T element = iterator.nextElement();
+                checkNotNull(element);
+                incoming[count++] = element;
+            }
+            writeLock.lock();
+            try {
+                Object[] current = array;
+                Object[] next = Arrays.copyOf(current, current.length + count);
+                System.arraycopy(incoming, 0, next, current.length, count);
+                array = next;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        @Override
+        public boolean set(int index, T element) {
+            if (element == null) {
+                return false;
+            }
+            writeLock.lock();
+            try {
+                Object[] current = array;
+                if (index < 0 || index >= current.length) {
+                    return false;
+                }
+                Object[] next = current.clone();
+                next[index] = element;
+                array = next;
+                return true;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        @Override
+        public void remove(T element) {
+            if (element == null) {
+                throw new IllegalArgumentException("cannot remove null element");
+            }
+            writeLock.lock();
+            try {
+                Object[] current = array;
+                int index = indexOf(current, current.length, element);
+                if (index >= 0) {
+                    Object[] next = new Object[current.length - 1];
+                    System.arraycopy(current, 0, next, 0, index);
+                    System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+                    array = next;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        @Override
+        public void clear() {
+            writeLock.lock();
+            try {
+                array = new Object[0];
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void sort(Comparator<T> comparator) {
+            writeLock.lock();
+            try {
+                Object[] next = array.clone();
+                Arrays.sort((T[]) next, comparator);
+                array = next;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+}
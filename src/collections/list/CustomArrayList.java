@@ -1,28 +1,49 @@
 package collections.list;
 
+import collections.map.CustomHashMap;
+import collections.metrics.CollectionMetrics;
+import collections.metrics.Operation;
 import core.*;
 import core.Iterable;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
-public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>, Sortable<T>, Filterable<T> {
+public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>, Sortable<T>, Filterable<T>, Splittable<T> {
     private static final int DEFAULT_CAPACITY = 10;
+    // below this parallelSort falls back to sort(). Above it parallelSort trades memory for speed:
+    // Arrays.parallelSort merges through a scratch array of size elements, while sort()'s TimSort
+    // needs at most size / 2 and far less on partly ordered data
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+    private final int initialCapacity;
     private Object[] elements;
     private int size;
+    // bumped by every add or remove so subList views can tell their range went stale
+    private int modCount;
+    // bumped when elements are replaced or reordered in place; with modCount it versions filterView counts
+    private int writeCount;
+    private GrowthPolicy growthPolicy = GrowthPolicy.doubling();
+    // see setShrinkOnDrain
+    private boolean shrinkOnDrain;
+    // opt-in side index from element to its first position, see setIndexed
+    private CustomHashMap<T, Integer> index;
+    // opt-in instrumentation, see setMetrics
+    private CollectionMetrics metrics;
 
     public CustomArrayList(){
-        this.elements = new Object[DEFAULT_CAPACITY];
-        this.size = 0;
+        this(DEFAULT_CAPACITY);
     }
 
     public CustomArrayList(int initialCapacity) {
         if (initialCapacity < 0) {
             throw new IllegalArgumentException("Initial capacity cannot be negative");
         }
+        this.initialCapacity = initialCapacity;
         this.elements = new Object[initialCapacity];
         this.size = 0;
     }
@@ -32,8 +53,103 @@ public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>,
         if (element == null) {
             throw new IllegalArgumentException("Cannot add null element");
         }
-        ensureCapacity();
+        grow(size + 1);
+        if(index != null && !index.containsKey(element)){
+            index.put(element, size);
+        }
         elements[size++] = element;
+        modCount++;
+        if(metrics != null){
+            metrics.recordOperation(Operation.ADD);
+            metrics.recordOccupancy(size, elements.length);
+        }
+    }
+
+    // null detaches; a list without metrics only pays a null check per operation.
+    // remove(element) counts as a SEARCH for the scan plus a REMOVE when something was found
+    public void setMetrics(CollectionMetrics metrics){
+        this.metrics = metrics;
+        if(metrics != null){
+            metrics.recordOccupancy(size, elements.length);
+        }
+    }
+
+    public Optional<CollectionMetrics> metrics(){
+        return Optional.ofNullable(metrics);
+    }
+
+    public void setGrowthPolicy(GrowthPolicy growthPolicy){
+        if(growthPolicy == null){
+            throw new IllegalArgumentException("growth policy cannot be null");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
+    // with shrinkOnDrain the backing array is halved until occupancy is at least a quarter and clear()
+    // drops it, never going below the initial capacity; the same rule CustomStack uses
+    public void setShrinkOnDrain(boolean shrinkOnDrain){
+        this.shrinkOnDrain = shrinkOnDrain;
+    }
+
+    public int capacity(){
+        return elements.length;
+    }
+
+    // presizes for minCapacity elements in one allocation, bypassing the growth policy
+    public void ensureCapacity(int minCapacity){
+        if(minCapacity > elements.length){
+            resize(minCapacity);
+        }
+    }
+
+    // releases every unused slot
+    public void trimToSize(){
+        if(size < elements.length){
+            resize(size);
+        }
+    }
+
+    // indexed mode answers indexOf/contains with a hash lookup instead of a scan; it costs a map
+    // entry per distinct element, and removals pay an extra pass to fix the shifted positions
+    public void setIndexed(boolean indexed){
+        if(!indexed){
+            index = null;
+        }else if(index == null){
+            rebuildIndex();
+        }
+    }
+
+    public boolean isIndexed(){
+        return index != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuildIndex(){
+        CustomHashMap<T, Integer> rebuilt = new CustomHashMap<>(size);
+        for(int i = 0; i < size; i++){
+            T element = (T) elements[i];
+            if(!rebuilt.containsKey(element)){
+                rebuilt.put(element, i);
+            }
+        }
+        index = rebuilt;
+    }
+
+    // called after the slot at position stopped holding element; moves its entry to the next occurrence
+    @SuppressWarnings("unchecked")
+    private void unindex(Object element, int position){
+        T key = (T) element;
+        Integer first = index.getOrDefault(key, null);
+        if(first == null || first != position){
+            return;
+        }
+        for(int i = position; i < size; i++){
+            if(key.equals(elements[i])){
+                index.put(key, i);
+                return;
+            }
+        }
+        index.remove(key);
     }
 
     @SuppressWarnings("unchecked")
@@ -41,9 +157,19 @@ public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>,
         if(index > this.size())
             throw new IndexOutOfBoundsException("index out of bounds for CustomArrayList of size: " + size);
 
+        if(metrics != null) metrics.recordOperation(Operation.GET);
         return Optional.ofNullable((T)elements[index]);
     }
 
+    @SuppressWarnings("unchecked")
+    public T elementAt(int index) throws IndexOutOfBoundsException{
+        if(index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("index out of bounds for CustomArrayList of size: " + size);
+
+        if(metrics != null) metrics.recordOperation(Operation.GET);
+        return (T) elements[index];
+    }
+
     public boolean set(int index, T element) {
         if (element == null) {
             return false;
@@ -53,7 +179,17 @@ public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>,
             return false;
         }
 
+        Object previous = elements[index];
         elements[index] = element;
+        writeCount++;
+        if(metrics != null) metrics.recordOperation(Operation.SET);
+        if(this.index != null && !previous.equals(element)){
+            unindex(previous, index);
+            Integer first = this.index.getOrDefault(element, null);
+            if(first == null || first > index){
+                this.index.put(element, index);
+            }
+        }
         return true;
     }
 
@@ -62,23 +198,55 @@ public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>,
         if(element == null)
             throw new IllegalArgumentException("cannot add null element");
 
+        if(metrics != null) metrics.recordOperation(Operation.SEARCH);
+        if(index != null){
+            return Optional.ofNullable(index.getOrDefault(element, null));
+        }
+
         for(int i = 0; i < this.size(); i++){
             if(element.equals(elements[i])){
+                if(metrics != null) metrics.recordComparisons(i + 1);
                 return Optional.of(i);
             }
         }
 
+        if(metrics != null) metrics.recordComparisons(size);
         return Optional.empty();
     }
 
-    private void ensureCapacity(){
-        if(size == elements.length){
-            Object[] newElements = new Object[elements.length * 2];
-            System.arraycopy(elements, 0, newElements, 0, elements.length);
-            elements = newElements;
+    private void grow(int required){
+        if(required > elements.length){
+            resize(Math.max(required, growthPolicy.newCapacity(elements.length, required)));
         }
     }
 
+    // halves until the quarter rule holds, so a bulk removal that drains most of the list shrinks in one copy
+    private void shrinkIfSparse(){
+        if(!shrinkOnDrain){
+            return;
+        }
+        int capacity = elements.length;
+        while(capacity > initialCapacity && size < capacity / 4){
+            capacity = Math.max(initialCapacity, capacity / 2);
+        }
+        if(capacity < elements.length){
+            resize(capacity);
+        }
+    }
+
+    private void resize(int capacity){
+        Object[] newElements = new Object[capacity];
+        System.arraycopy(elements, 0, newElements, 0, size);
+        if(metrics != null){
+            if(capacity > elements.length){
+                metrics.recordGrowth(elements.length, capacity, size);
+            }else{
+                metrics.recordCopy(size);
+            }
+        }
+        elements = newElements;
+    }
+
     @Override
     public void remove(T element) {
         // Handle null element case
@@ -92,12 +260,31 @@ public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>,
         }
     }
 
+    @SuppressWarnings("unchecked")
     private void removeAt(int index){
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Invalid index");
         }
+        Object removed = elements[index];
         System.arraycopy(elements, index + 1, elements, index, size - index - 1);
         elements[--size] = null;
+        modCount++;
+        if(metrics != null){
+            metrics.recordOperation(Operation.REMOVE);
+            metrics.recordCopy(size - index);
+        }
+
+        if(this.index != null){
+            for(int i = index; i < size; i++){
+                T shifted = (T) elements[i];
+                Integer first = this.index.getOrDefault(shifted, null);
+                if(first != null && first == i + 1){
+                    this.index.put(shifted, i);
+                }
+            }
+            unindex(removed, index);
+        }
+        shrinkIfSparse();
     }
 
     @Override
@@ -107,6 +294,10 @@ public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>,
             throw new IllegalArgumentException("cannot find null element");
         }
 
+        if(index != null){
+            if(metrics != null) metrics.recordOperation(Operation.SEARCH);
+            return index.containsKey(element);
+        }
         return indexOf(element).isPresent();
     }
 
@@ -126,11 +317,20 @@ public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>,
             elements[i] = null;
         }
         size = 0;
+        modCount++;
+        if(shrinkOnDrain && elements.length > initialCapacity){
+            elements = new Object[initialCapacity];
+        }
+        if(index != null){
+            index.clear();
+        }
+        if(metrics != null) metrics.recordOperation(Operation.CLEAR);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public Collection<T> filter(Predicate<T> predicate) {
+        if(metrics != null) metrics.recordOperation(Operation.ITERATE);
         CustomArrayList<T> filtered = new CustomArrayList<>();
         for(int i = 0; i < size; i++){
             T element = (T) elements[i];
@@ -141,8 +341,18 @@ public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>,
         return filtered;
     }
 
+    @Override
+    public Collection<T> filterView(Predicate<T> predicate) {
+        return new FilteredView<>(this, predicate, this::version);
+    }
+
+    private int version(){
+        return modCount + writeCount;
+    }
+
     @Override
     public Iterator<T> iterator() throws IllegalStateException, NoSuchElementException{
+        if(metrics != null) metrics.recordOperation(Operation.ITERATE);
         return new Iterator<T>() {
             private int currentIndex = 0;
             @Override
@@ -159,6 +369,23 @@ public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>,
                 return Optional.ofNullable((T) elements[currentIndex++]);
             }
 
+            @Override
+            @SuppressWarnings("unchecked")
+            public T nextElement() {
+                if(!hasNext()){
+                    throw new NoSuchElementException();
+                }
+                return (T) elements[currentIndex++];
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void forEachRemaining(Consumer<? super T> action) {
+                while(currentIndex < size){
+                    action.accept((T) elements[currentIndex++]);
+                }
+            }
+
             @Override
             public void remove() {
                 if (currentIndex == 0) {
@@ -169,12 +396,82 @@ public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>,
         };
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        if(metrics != null) metrics.recordOperation(Operation.ITERATE);
+        for(int i = 0; i < size; i++){
+            action.accept((T) elements[i]);
+        }
+    }
+
+    @Override
+    public Splitter<T> splitter() {
+        return new ArraySplitter<>(elements, 0, size);
+    }
+
+    private static class ArraySplitter<T> implements Splitter<T> {
+        private final Object[] array;
+        private int origin;
+        private final int fence;
+
+        ArraySplitter(Object[] array, int origin, int fence) {
+            this.array = array;
+            this.origin = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public Splitter<T> trySplit() {
+            int mid = (origin + fence) >>> 1;
+            if (origin >= mid) {
+                return null;
+            }
+            Splitter<T> prefix = new ArraySplitter<>(array, origin, mid);
+            origin = mid;
+            return prefix;
+        }
+
+        @Override
+        public int size() {
+            return fence - origin;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (int i = origin; i < fence; i++) {
+                action.accept((T) array[i]);
+            }
+            origin = fence;
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void sort(Comparator<T> comparator) {
-        Object[] temp = Arrays.copyOf(elements, size);
-        Arrays.sort((T[]) temp, 0, size, comparator);
-        System.arraycopy(temp, 0, elements, 0, size);
+        Arrays.sort((T[]) elements, 0, size, comparator);
+        writeCount++;
+        if(metrics != null) metrics.recordOperation(Operation.SORT);
+        if(index != null){
+            rebuildIndex();
+        }
+    }
+
+    // fork-join merge sort on the backing array; small lists are not worth the task overhead. Briefly
+    // doubles the list's memory, see PARALLEL_SORT_THRESHOLD
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<T> comparator) {
+        if(size < PARALLEL_SORT_THRESHOLD){
+            sort(comparator);
+            return;
+        }
+        Arrays.parallelSort((T[]) elements, 0, size, comparator);
+        writeCount++;
+        if(metrics != null) metrics.recordOperation(Operation.SORT);
+        if(index != null){
+            rebuildIndex();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -182,22 +479,364 @@ public class CustomArrayList<T> implements List<T>, Collection<T>, Iterable<T>,
         return (T[]) Arrays.copyOf(elements, this.size());
     }
 
+    // presizes once, then copies straight out of the source's backing array when it has one
+    @SuppressWarnings("unchecked")
     public void addAll(Collection<T> collection){
+        int start = size;
+        int count;
+        if(collection instanceof CustomArrayList){
+            CustomArrayList<?> source = (CustomArrayList<?>) collection;
+            count = source.size;
+            grow(size + count);
+            System.arraycopy(source.elements, 0, elements, size, count);
+        }else{
+            Object[] incoming = incoming(collection);
+            count = incoming.length;
+            grow(size + count);
+            System.arraycopy(incoming, 0, elements, size, count);
+        }
+        size += count;
+        modCount++;
+
+        if(index != null){
+            for(int i = start; i < size; i++){
+                T element = (T) elements[i];
+                if(!index.containsKey(element)){
+                    index.put(element, i);
+                }
+            }
+        }
+        if(metrics != null){
+            metrics.recordOperations(Operation.ADD, count);
+            metrics.recordOccupancy(size, elements.length);
+        }
+    }
+
+    // inserts the whole collection before position index with a single shift of the tail
+    public void insertAll(int index, Collection<T> collection){
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("index out of bounds for CustomArrayList of size: " + size);
+        }
+        // always a copy, so inserting a list into itself reads the elements before the shift
+        Object[] incoming = incoming(collection);
+        int count = incoming.length;
+        if(count == 0){
+            return;
+        }
+        grow(size + count);
+        System.arraycopy(elements, index, elements, index + count, size - index);
+        System.arraycopy(incoming, 0, elements, index, count);
+        int moved = size - index;
+        size += count;
+        modCount++;
+
+        if(this.index != null){
+            rebuildIndex();
+        }
+        if(metrics != null){
+            metrics.recordOperations(Operation.ADD, count);
+            metrics.recordCopy(moved);
+            metrics.recordOccupancy(size, elements.length);
+        }
+    }
+
+    // removes every element the predicate accepts in one compacting pass: survivors slide left over the
+    // removed slots, so the cost is O(n) however many go. If the predicate throws, the untested tail is kept
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> predicate){
+        if(predicate == null){
+            throw new IllegalArgumentException("predicate cannot be null");
+        }
+        int kept = 0;
+        int scanned = 0;
+        try{
+            for(; scanned < size; scanned++){
+                T element = (T) elements[scanned];
+                if(!predicate.test(element)){
+                    elements[kept++] = element;
+                }
+            }
+        }finally{
+            if(scanned < size){
+                System.arraycopy(elements, scanned, elements, kept, size - scanned);
+                kept += size - scanned;
+            }
+            int removed = size - kept;
+            Arrays.fill(elements, kept, size, null);
+            size = kept;
+            if(removed > 0){
+                afterBulkRemove(removed, kept);
+            }
+        }
+        return scanned > kept;
+    }
+
+    // keeps only the elements keep contains; see removeIf
+    public boolean retainAll(Collection<T> keep){
+        if(keep == null){
+            throw new IllegalArgumentException("collection cannot be null");
+        }
+        Predicate<T> retained = Membership.of(keep);
+        return removeIf(element -> !retained.test(element));
+    }
+
+    // removes positions [fromIndex, toIndex) with a single shift of the tail
+    public void removeRange(int fromIndex, int toIndex){
+        if(fromIndex < 0 || fromIndex > toIndex || toIndex > size){
+            throw new IndexOutOfBoundsException("range [" + fromIndex + ", " + toIndex + ") out of bounds for CustomArrayList of size: " + size);
+        }
+        int removed = toIndex - fromIndex;
+        if(removed == 0){
+            return;
+        }
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        Arrays.fill(elements, size - removed, size, null);
+        size -= removed;
+        afterBulkRemove(removed, size - fromIndex);
+    }
+
+    private void afterBulkRemove(int removed, int moved){
+        modCount++;
+        if(index != null){
+            rebuildIndex();
+        }
+        if(metrics != null){
+            metrics.recordOperations(Operation.REMOVE, removed);
+            metrics.recordCopy(moved);
+        }
+        shrinkIfSparse();
+    }
+
+    // the collection's elements as an array of exactly its size, copied from the backing array when the
+    // source has one; nulls are rejected before anything is modified
+    private Object[] incoming(Collection<T> collection){
+        if(collection instanceof CustomArrayList){
+            CustomArrayList<?> source = (CustomArrayList<?>) collection;
+            return Arrays.copyOf(source.elements, source.size);
+        }
+        if(collection instanceof ConcurrentCustomArrayList){
+            return ((ConcurrentCustomArrayList<?>) collection).snapshot();
+        }
+        Object[] incoming = new Object[collection.size()];
+        int count = 0;
         Iterator<T> iterator = collection.iterator();
-        while(iterator().hasNext()){
-            add(iterator().next().get());
+        while(iterator.hasNext() && count < incoming.length){
+            T element = iterator.nextElement();
+            if(element == null){
+                throw new IllegalArgumentException("Cannot add null element");
+            }
+            incoming[count++] = element;
         }
+        return count == incoming.length ? incoming : Arrays.copyOf(incoming, count);
     }
 
+    // copying counterpart of subList
     public CustomArrayList<T> slice(int fromIndex, int toIndex) throws IndexOutOfBoundsException{
         if(fromIndex < 0 || fromIndex > toIndex || toIndex> this.size()){
             throw new IndexOutOfBoundsException();
         }
 
         CustomArrayList<T> subList = new CustomArrayList<>(toIndex - fromIndex);
-        for (int i = fromIndex; i < toIndex; i++) {
-            subList.add(get(i).get());
-        }
+        System.arraycopy(elements, fromIndex, subList.elements, 0, toIndex - fromIndex);
+        subList.size = toIndex - fromIndex;
         return subList;
     }
+
+    // view of [fromIndex, toIndex) that shares this list's array instead of copying it
+    public ListView<T> subList(int fromIndex, int toIndex){
+        checkRange(fromIndex, toIndex, size);
+        return new SubList(fromIndex, toIndex - fromIndex, modCount);
+    }
+
+    private static void checkRange(int fromIndex, int toIndex, int size){
+        if(fromIndex < 0 || fromIndex > toIndex || toIndex > size){
+            throw new IndexOutOfBoundsException("range [" + fromIndex + ", " + toIndex + ") out of bounds for size: " + size);
+        }
+    }
+
+    // views always address the root list's array by offset, so a view of a view costs the same as a view
+    private class SubList implements ListView<T> {
+        private final int offset;
+        private final int size;
+        private final int expectedModCount;
+
+        SubList(int offset, int size, int expectedModCount){
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private void checkForComodification(){
+            if(modCount != expectedModCount){
+                throw new ConcurrentModificationException("CustomArrayList was structurally modified after subList");
+            }
+        }
+
+        private void checkIndex(int index){
+            if(index < 0 || index >= size){
+                throw new IndexOutOfBoundsException("index out of bounds for subList of size: " + size);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T elementAt(int index){
+            checkForComodification();
+            checkIndex(index);
+            if(metrics != null) metrics.recordOperation(Operation.GET);
+            return (T) elements[offset + index];
+        }
+
+        @Override
+        public Optional<T> get(int index){
+            return Optional.of(elementAt(index));
+        }
+
+        @Override
+        public boolean set(int index, T element){
+            checkForComodification();
+            if(index < 0 || index >= size){
+                return false;
+            }
+            return CustomArrayList.this.set(offset + index, element);
+        }
+
+        @Override
+        public Optional<Integer> indexOf(T element){
+            if(element == null){
+                throw new IllegalArgumentException("cannot find null element");
+            }
+            checkForComodification();
+            if(metrics != null) metrics.recordOperation(Operation.SEARCH);
+            for(int i = 0; i < size; i++){
+                if(element.equals(elements[offset + i])){
+                    if(metrics != null) metrics.recordComparisons(i + 1);
+                    return Optional.of(i);
+                }
+            }
+            if(metrics != null) metrics.recordComparisons(size);
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean contains(T element){
+            return indexOf(element).isPresent();
+        }
+
+        @Override
+        public int size(){
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty(){
+            return size() == 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void sort(Comparator<T> comparator){
+            checkForComodification();
+            Arrays.sort((T[]) elements, offset, offset + size, comparator);
+            writeCount++;
+            if(metrics != null) metrics.recordOperation(Operation.SORT);
+            if(index != null){
+                rebuildIndex();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Collection<T> filter(Predicate<T> predicate){
+            checkForComodification();
+            if(metrics != null) metrics.recordOperation(Operation.ITERATE);
+            CustomArrayList<T> filtered = new CustomArrayList<>();
+            for(int i = offset; i < offset + size; i++){
+                T element = (T) elements[i];
+                if(predicate.test(element)){
+                    filtered.add(element);
+                }
+            }
+            return filtered;
+        }
+
+        @Override
+        public Collection<T> filterView(Predicate<T> predicate){
+            checkForComodification();
+            return new FilteredView<>(this, predicate, CustomArrayList.this::version);
+        }
+
+        @Override
+        public ListView<T> subList(int fromIndex, int toIndex){
+            checkForComodification();
+            checkRange(fromIndex, toIndex, size);
+            return new SubList(offset + fromIndex, toIndex - fromIndex, expectedModCount);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEach(Consumer<? super T> action){
+            checkForComodification();
+            if(metrics != null) metrics.recordOperation(Operation.ITERATE);
+            for(int i = offset; i < offset + size; i++){
+                action.accept((T) elements[i]);
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public Iterator<T> iterator(){
+            checkForComodification();
+            if(metrics != null) metrics.recordOperation(Operation.ITERATE);
+            return new Iterator<T>() {
+                private int currentIndex = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return currentIndex < size;
+                }
+
+                @Override
+                public Optional<T> next() {
+                    return Optional.of(nextElement());
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T nextElement() {
+                    checkForComodification();
+                    if(!hasNext()){
+                        throw new NoSuchElementException();
+                    }
+                    return (T) elements[offset + currentIndex++];
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("subList views cannot remove elements");
+                }
+            };
+        }
+
+        @Override
+        public void add(T element){
+            throw new UnsupportedOperationException("subList views cannot add elements");
+        }
+
+        @Override
+        public void addAll(Collection<T> collection){
+            throw new UnsupportedOperationException("subList views cannot add elements");
+        }
+
+        @Override
+        public void remove(T element){
+            throw new UnsupportedOperationException("subList views cannot remove elements");
+        }
+
+        @Override
+        public void clear(){
+            throw new UnsupportedOperationException("subList views cannot remove elements");
+        }
+    }
 }
@@ -1,11 +1,15 @@
 package collections.list;
 
+import collections.metrics.CollectionMetrics;
+import collections.metrics.Operation;
 import core.*;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>, Filterable<T>, OrderedCollection<T> {
@@ -29,6 +33,83 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
     private Node head;
     private Node tail;
     private int size;
+    // last node reached by index, so nearby positional accesses walk from here instead of an end
+    private Node finger;
+    private int fingerIndex;
+    // bumped by every add, remove and sort so subList views can tell their nodes went stale
+    private int modCount;
+    // bumped when elements are replaced or reordered in place; with modCount it versions filterView counts
+    private int writeCount;
+    // opt-in instrumentation, see setMetrics
+    private CollectionMetrics metrics;
+    // free-list of unlinked nodes chained through next, see setNodePool
+    private Node pool;
+    private int pooled;
+    private int maxPooled;
+
+    // null detaches; a list without metrics only pays a null check per operation. Every node is
+    // allocated for an element, so capacity always equals size and there are no growth events
+    public void setMetrics(CollectionMetrics metrics){
+        this.metrics = metrics;
+        if(metrics != null){
+            metrics.recordOccupancy(size, size);
+        }
+    }
+
+    public Optional<CollectionMetrics> metrics(){
+        return Optional.ofNullable(metrics);
+    }
+
+    // keeps up to maxPooled unlinked nodes for reuse by later adds, so add/remove churn stops allocating
+    // once the pool is warm; 0 (the default) turns pooling off and drops the pooled nodes. Pooled nodes
+    // hold no element. An iterator or cursor must not be used after its node was removed by another path,
+    // since that node may already carry a different element
+    public void setNodePool(int maxPooled){
+        if(maxPooled < 0){
+            throw new IllegalArgumentException("pool size cannot be negative");
+        }
+        this.maxPooled = maxPooled;
+        while(pooled > maxPooled){
+            Node dropped = pool;
+            pool = dropped.next;
+            dropped.next = null;
+            pooled--;
+        }
+    }
+
+    public int pooledNodes(){
+        return pooled;
+    }
+
+    private Node takeNode(T element){
+        if(pool == null){
+            return new Node(element);
+        }
+        Node node = pool;
+        pool = node.next;
+        pooled--;
+        node.next = null;
+        node.data = element;
+        return node;
+    }
+
+    // called once a node is out of the chain; clears the element so the pool does not keep it reachable
+    private void recycle(Node node){
+        if(pooled < maxPooled){
+            node.data = null;
+            node.prev = null;
+            node.next = pool;
+            pool = node;
+            pooled++;
+        }
+    }
+
+    private void recordAdd(){
+        if(metrics != null){
+            metrics.recordOperation(Operation.ADD);
+            metrics.recordOccupancy(size, size);
+        }
+    }
 
     @Override
     public Optional<T> getFirst() {
@@ -46,7 +127,7 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
             throw new IllegalArgumentException("cannot add null element");
         }
 
-        Node newNode = new Node(element);
+        Node newNode = takeNode(element);
         if(isEmpty()){
             head = tail = newNode;
         }else{
@@ -55,6 +136,11 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
             head = newNode;
         }
         size++;
+        modCount++;
+        if(finger != null){
+            fingerIndex++;
+        }
+        recordAdd();
     }
 
     @Override
@@ -63,7 +149,7 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
             throw new IllegalArgumentException("cannot add null element");
         }
 
-        Node newNode = new Node(element);
+        Node newNode = takeNode(element);
         if(isEmpty()){
             head = tail = newNode;
         }else {
@@ -72,6 +158,8 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
             tail = newNode;
         }
         size++;
+        modCount++;
+        recordAdd();
     }
 
     @Override
@@ -82,11 +170,114 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
         addLast(element);
     }
 
+    // takes exactly collection.size() elements, so adding a list to itself terminates
     @Override
     public void addAll(Collection<T> collection) {
+        int remaining = collection.size();
+        Iterator<T> iterator = collection.iterator();
+        while(remaining-- > 0 && iterator.hasNext()){
+            add(iterator.nextElement());
+        }
+    }
+
+    // walks to index once and links every element in front of it
+    @SuppressWarnings("unchecked")
+    public void insertAll(int index, Collection<T> collection) {
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("index out of bounds for CustomLinkedList of size: " + size);
+        }
+        // copied first so inserting a list into itself does not see its own insertions, and a null
+        // element is rejected before anything is linked
+        Object[] incoming = new Object[collection.size()];
+        int count = 0;
         Iterator<T> iterator = collection.iterator();
-        while(iterator.hasNext()){
-            add(iterator.next().get());
+        while(iterator.hasNext() && count < incoming.length){
+            T element = iterator.nextElement();
+            if(element == null){
+                throw new IllegalArgumentException("cannot add null element");
+            }
+            incoming[count++] = element;
+        }
+
+        Node successor = index == size ? null : node(index);
+        for(int i = 0; i < count; i++){
+            linkBefore((T) incoming[i], successor);
+        }
+    }
+
+    // unlinks every element the predicate accepts in one pass; a throwing predicate leaves the list
+    // consistent, with the elements tested so far already removed
+    public boolean removeIf(Predicate<? super T> predicate) {
+        if(predicate == null){
+            throw new IllegalArgumentException("predicate cannot be null");
+        }
+        int removed = 0;
+        try{
+            Node current = head;
+            while(current != null){
+                Node next = current.next;
+                if(predicate.test(current.data)){
+                    removeNode(current);
+                    removed++;
+                }
+                current = next;
+            }
+        }finally{
+            if(removed > 0 && metrics != null) metrics.recordOperations(Operation.REMOVE, removed);
+        }
+        return removed > 0;
+    }
+
+    // keeps only the elements keep contains; see removeIf
+    public boolean retainAll(Collection<T> keep) {
+        if(keep == null){
+            throw new IllegalArgumentException("collection cannot be null");
+        }
+        Predicate<T> retained = Membership.of(keep);
+        return removeIf(element -> !retained.test(element));
+    }
+
+    // unlinks positions [fromIndex, toIndex) as one segment
+    public void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || fromIndex > toIndex || toIndex > size){
+            throw new IndexOutOfBoundsException("range [" + fromIndex + ", " + toIndex + ") out of bounds for CustomLinkedList of size: " + size);
+        }
+        int removed = toIndex - fromIndex;
+        if(removed == 0){
+            return;
+        }
+        Node first = node(fromIndex);
+        Node last = first;
+        for(int i = fromIndex + 1; i < toIndex; i++){
+            last = last.next;
+        }
+
+        Node before = first.prev;
+        Node after = last.next;
+        if(before == null){
+            head = after;
+        }else{
+            before.next = after;
+        }
+        if(after == null){
+            tail = before;
+        }else{
+            after.prev = before;
+        }
+        size -= removed;
+        modCount++;
+        finger = null;
+        recycleChain(first, removed);
+        if(metrics != null) metrics.recordOperations(Operation.REMOVE, removed);
+    }
+
+    // recycles up to count nodes of an unlinked chain, stopping as soon as the pool is full
+    private void recycleChain(Node first, int count){
+        Node current = first;
+        while(count-- > 0 && pooled < maxPooled){
+            Node next = current.next;
+            recycle(current);
+            current = next;
         }
     }
 
@@ -96,17 +287,48 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
             throw new IllegalArgumentException("cannot add null element");
         }
 
+        // counted like CustomArrayList: a SEARCH for the scan, plus a REMOVE when something was found
+        if(metrics != null) metrics.recordOperation(Operation.SEARCH);
         Node current = head;
+        int compared = 0;
         while(current != null){
+            compared++;
             if(current.data.equals(element)){
                 removeNode(current);
+                if(metrics != null){
+                    metrics.recordOperation(Operation.REMOVE);
+                    metrics.recordComparisons(compared);
+                }
                 return;
             }
             current = current.next;
         }
+        if(metrics != null) metrics.recordComparisons(compared);
+    }
+
+    private void linkBefore(T element, Node successor){
+        if(successor == null){
+            addLast(element);
+            return;
+        }
+        if(successor == head){
+            addFirst(element);
+            return;
+        }
+
+        Node newNode = takeNode(element);
+        newNode.prev = successor.prev;
+        newNode.next = successor;
+        successor.prev.next = newNode;
+        successor.prev = newNode;
+        size++;
+        modCount++;
+        finger = null;
+        recordAdd();
     }
 
     private void removeNode(Node node){
+        finger = null;
         if(node == head){
             head = head.next;
         }else{
@@ -119,6 +341,8 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
             node.next.prev = node.prev;
         }
         size--;
+        modCount++;
+        recycle(node);
     }
 
     @Override
@@ -127,29 +351,91 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
             throw new IllegalArgumentException("cannot add null element");
         }
 
+        if(metrics != null) metrics.recordOperation(Operation.SEARCH);
         if(size == 0) return false;
 
         Node current = head;
+        int compared = 0;
         while(current != null){
+            compared++;
             if(current.data.equals(element)){
+                if(metrics != null) metrics.recordComparisons(compared);
                 return true;
             }
             current = current.next;
         }
+        if(metrics != null) metrics.recordComparisons(compared);
         return false;
     }
 
     @Override
     public Optional<T> get(int index) {
-        if(index < 0 || index > size){
-            throw new IndexOutOfBoundsException("index out of bounds for CustomArrayList of size: " + size);
+        checkIndex(index);
+        if(metrics != null) metrics.recordOperation(Operation.GET);
+        return Optional.ofNullable(node(index).data);
+    }
+
+    public boolean set(int index, T element) {
+        if (element == null) {
+            return false;
         }
 
-        Node current = head;
-        for (int i = 0; i < index; i++) {
+        if (index < 0 || index >= size) {
+            return false;
+        }
+
+        node(index).data = element;
+        writeCount++;
+        if(metrics != null) metrics.recordOperation(Operation.SET);
+        return true;
+    }
+
+    private void checkIndex(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("index out of bounds for CustomLinkedList of size: " + size);
+        }
+    }
+
+    // walks from whichever of head, tail or the finger is closest to index
+    private Node node(int index){
+        Node current;
+        int position;
+        if(index < size - 1 - index){
+            current = head;
+            position = 0;
+        }else{
+            current = tail;
+            position = size - 1;
+        }
+        if(finger != null && Math.abs(index - fingerIndex) < Math.abs(index - position)){
+            current = finger;
+            position = fingerIndex;
+        }
+
+        while(position < index){
             current = current.next;
+            position++;
+        }
+        while(position > index){
+            current = current.prev;
+            position--;
+        }
+
+        finger = current;
+        fingerIndex = index;
+        return current;
+    }
+
+    public ListCursor<T> cursor() {
+        return cursor(0);
+    }
+
+    public ListCursor<T> cursor(int index) {
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("index out of bounds for CustomLinkedList of size: " + size);
         }
-        return Optional.ofNullable(current.data);
+        if(metrics != null) metrics.recordOperation(Operation.ITERATE);
+        return new Cursor(index);
     }
 
     @Override
@@ -158,16 +444,19 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
             throw new IllegalArgumentException("cannot add null element");
         }
 
+        if(metrics != null) metrics.recordOperation(Operation.SEARCH);
         Node current = head;
         int index = 0;
         while(current != null){
             if(current.data.equals(element)){
+                if(metrics != null) metrics.recordComparisons(index + 1);
                 return Optional.of(index);
             }
             current = current.next;
             index++;
         }
 
+        if(metrics != null) metrics.recordComparisons(index);
         return Optional.empty();
     }
 
@@ -183,12 +472,17 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
 
     @Override
     public void clear() {
+        recycleChain(head, size);
         head = tail = null;
+        finger = null;
         size = 0;
+        modCount++;
+        if(metrics != null) metrics.recordOperation(Operation.CLEAR);
     }
 
     @Override
     public Collection<T> filter(Predicate<T> predicate) {
+        if(metrics != null) metrics.recordOperation(Operation.ITERATE);
         CustomLinkedList<T> filtered = new CustomLinkedList<>();
         Node current = head;
         while(current != null){
@@ -201,8 +495,28 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
         return  filtered;
     }
 
+    @Override
+    public Collection<T> filterView(Predicate<T> predicate) {
+        return new FilteredView<>(this, predicate, this::version);
+    }
+
+    private int version(){
+        return modCount + writeCount;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        if(metrics != null) metrics.recordOperation(Operation.ITERATE);
+        Node current = head;
+        while(current != null){
+            action.accept(current.data);
+            current = current.next;
+        }
+    }
+
     @Override
     public Iterator<T> iterator() {
+        if(metrics != null) metrics.recordOperation(Operation.ITERATE);
         return new Iterator<T>() {
             private Node current = head;
             private Node lastReturned = null;
@@ -221,40 +535,424 @@ public class CustomLinkedList<T> implements List<T>, Collection<T>, Sortable<T>,
                 return Optional.of(lastReturned.data);
             }
 
+            @Override
+            public T nextElement() {
+                if(!hasNext()){
+                    throw new NoSuchElementException("there is no next element");
+                }
+                lastReturned = current;
+                current = current.next;
+                return lastReturned.data;
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super T> action) {
+                while(current != null){
+                    lastReturned = current;
+                    current = current.next;
+                    action.accept(lastReturned.data);
+                }
+            }
+
             @Override
             public void remove() {
                 if(lastReturned == null){
                     throw new IllegalStateException("that's illegal");
                 }
                 removeNode(lastReturned);
+                if(metrics != null) metrics.recordOperation(Operation.REMOVE);
                 lastReturned = null;
             }
         };
     }
 
+    // bottom-up merge sort that relinks the existing nodes: bins[i] holds a sorted run of 2^i nodes,
+    // each node is carried up through the bins like a binary counter, and prev/tail are repaired at the end
     @Override
     @SuppressWarnings("unchecked")
     public void sort(Comparator<T> comparator) {
+        if(metrics != null) metrics.recordOperation(Operation.SORT);
         if(size()  <= 1) return;
 
-        // convert ll to array
-        T[] arr = (T[]) new Object[size()];
+        // Object[] because Node is an inner class of a generic type; entries are cast back on read
+        Object[] bins = new Object[32];
         Node current = head;
-        int index = 0;
         while(current != null){
-            arr[index] = current.data;
-            index++;
+            Node carry = current;
             current = current.next;
+            carry.next = null;
+
+            int i = 0;
+            while(bins[i] != null){
+                carry = merge((Node) bins[i], carry, comparator);
+                bins[i] = null;
+                i++;
+            }
+            bins[i] = carry;
+        }
+
+        Node sorted = null;
+        for(Object bin : bins){
+            if(bin != null){
+                sorted = merge((Node) bin, sorted, comparator);
+            }
+        }
+
+        head = sorted;
+        finger = null;
+        modCount++;
+        Node previous = null;
+        for(Node node = head; node != null; node = node.next){
+            node.prev = previous;
+            previous = node;
+        }
+        tail = previous;
+    }
+
+    // merges two sorted runs along their next pointers; ties go to the earlier run to keep the sort stable
+    private Node merge(Node earlier, Node later, Comparator<T> comparator){
+        if(later == null) return earlier;
+
+        Node merged;
+        if(comparator.compare(later.data, earlier.data) < 0){
+            merged = later;
+            later = later.next;
+        }else{
+            merged = earlier;
+            earlier = earlier.next;
+        }
+
+        Node last = merged;
+        while(earlier != null && later != null){
+            if(comparator.compare(later.data, earlier.data) < 0){
+                last.next = later;
+                later = later.next;
+            }else{
+                last.next = earlier;
+                earlier = earlier.next;
+            }
+            last = last.next;
+        }
+        last.next = earlier != null ? earlier : later;
+        return merged;
+    }
+
+    // view of [fromIndex, toIndex) that reads and writes this list's nodes in place
+    public ListView<T> subList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex, size);
+        Node first = fromIndex == toIndex ? null : node(fromIndex);
+        return new SubList(first, toIndex - fromIndex, modCount);
+    }
+
+    private static void checkRange(int fromIndex, int toIndex, int size){
+        if(fromIndex < 0 || fromIndex > toIndex || toIndex > size){
+            throw new IndexOutOfBoundsException("range [" + fromIndex + ", " + toIndex + ") out of bounds for size: " + size);
+        }
+    }
+
+    // a view holds the first node of its range, so nested views start from there rather than walking
+    // through their parents; sort rewrites the node data in place, leaving the links alone
+    private class SubList implements ListView<T> {
+        private final Node first;
+        private final int size;
+        private final int expectedModCount;
+
+        SubList(Node first, int size, int expectedModCount){
+            this.first = first;
+            this.size = size;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private void checkForComodification(){
+            if(modCount != expectedModCount){
+                throw new ConcurrentModificationException("CustomLinkedList was structurally modified after subList");
+            }
+        }
+
+        private Node nodeAt(int index){
+            if(index < 0 || index >= size){
+                throw new IndexOutOfBoundsException("index out of bounds for subList of size: " + size);
+            }
+            Node current = first;
+            for(int i = 0; i < index; i++){
+                current = current.next;
+            }
+            return current;
         }
 
-        //sort
-        Arrays.sort(arr, comparator);
+        @Override
+        public T elementAt(int index){
+            checkForComodification();
+            Node node = nodeAt(index);
+            if(metrics != null) metrics.recordOperation(Operation.GET);
+            return node.data;
+        }
+
+        @Override
+        public Optional<T> get(int index){
+            return Optional.of(elementAt(index));
+        }
+
+        @Override
+        public boolean set(int index, T element){
+            checkForComodification();
+            if(element == null || index < 0 || index >= size){
+                return false;
+            }
+            nodeAt(index).data = element;
+            writeCount++;
+            if(metrics != null) metrics.recordOperation(Operation.SET);
+            return true;
+        }
+
+        @Override
+        public Optional<Integer> indexOf(T element){
+            if(element == null){
+                throw new IllegalArgumentException("cannot find null element");
+            }
+            checkForComodification();
+            if(metrics != null) metrics.recordOperation(Operation.SEARCH);
+            Node current = first;
+            for(int i = 0; i < size; i++){
+                if(current.data.equals(element)){
+                    if(metrics != null) metrics.recordComparisons(i + 1);
+                    return Optional.of(i);
+                }
+                current = current.next;
+            }
+            if(metrics != null) metrics.recordComparisons(size);
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean contains(T element){
+            return indexOf(element).isPresent();
+        }
 
-        //rebuild
-        clear();
-        Iterator<T> iterator = this.iterator();
-        for(T element: arr){
-            add(element);
+        @Override
+        public int size(){
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty(){
+            return size() == 0;
+        }
+
+        // copies the data out, sorts it stably and writes it back along the same nodes
+        @Override
+        @SuppressWarnings("unchecked")
+        public void sort(Comparator<T> comparator){
+            checkForComodification();
+            Object[] values = new Object[size];
+            Node current = first;
+            for(int i = 0; i < size; i++){
+                values[i] = current.data;
+                current = current.next;
+            }
+            Arrays.sort((T[]) values, comparator);
+            current = first;
+            for(int i = 0; i < size; i++){
+                current.data = (T) values[i];
+                current = current.next;
+            }
+            writeCount++;
+            if(metrics != null) metrics.recordOperation(Operation.SORT);
+        }
+
+        @Override
+        public Collection<T> filter(Predicate<T> predicate){
+            checkForComodification();
+            if(metrics != null) metrics.recordOperation(Operation.ITERATE);
+            CustomLinkedList<T> filtered = new CustomLinkedList<>();
+            Node current = first;
+            for(int i = 0; i < size; i++){
+                if(predicate.test(current.data)){
+                    filtered.add(current.data);
+                }
+                current = current.next;
+            }
+            return filtered;
+        }
+
+        @Override
+        public Collection<T> filterView(Predicate<T> predicate){
+            checkForComodification();
+            return new FilteredView<>(this, predicate, CustomLinkedList.this::version);
+        }
+
+        @Override
+        public ListView<T> subList(int fromIndex, int toIndex){
+            checkForComodification();
+            checkRange(fromIndex, toIndex, size);
+            Node start = fromIndex == toIndex ? null : nodeAt(fromIndex);
+            return new SubList(start, toIndex - fromIndex, expectedModCount);
+        }
+
+        @Override
+        public void forEach(Consumer<? super T> action){
+            checkForComodification();
+            if(metrics != null) metrics.recordOperation(Operation.ITERATE);
+            Node current = first;
+            for(int i = 0; i < size; i++){
+                action.accept(current.data);
+                current = current.next;
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public Iterator<T> iterator(){
+            checkForComodification();
+            if(metrics != null) metrics.recordOperation(Operation.ITERATE);
+            return new Iterator<T>() {
+                private Node current = first;
+                private int remaining = size;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0;
+                }
+
+                @Override
+                public Optional<T> next() {
+                    return Optional.of(nextElement());
+                }
+
+                @Override
+                public T nextElement() {
+                    checkForComodification();
+                    if(!hasNext()){
+                        throw new NoSuchElementException("there is no next element");
+                    }
+                    T data = current.data;
+                    current = current.next;
+                    remaining--;
+                    return data;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("subList views cannot remove elements");
+                }
+            };
+        }
+
+        @Override
+        public void add(T element){
+            throw new UnsupportedOperationException("subList views cannot add elements");
+        }
+
+        @Override
+        public void addAll(Collection<T> collection){
+            throw new UnsupportedOperationException("subList views cannot add elements");
+        }
+
+        @Override
+        public void remove(T element){
+            throw new UnsupportedOperationException("subList views cannot remove elements");
+        }
+
+        @Override
+        public void clear(){
+            throw new UnsupportedOperationException("subList views cannot remove elements");
+        }
+    }
+
+    private class Cursor implements ListCursor<T> {
+        private Node next;
+        private int nextIndex;
+        private Node lastReturned;
+
+        Cursor(int index){
+            this.next = index == size ? null : node(index);
+            this.nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public Optional<T> next() {
+            return Optional.of(nextElement());
+        }
+
+        @Override
+        public T nextElement() {
+            if(!hasNext()){
+                throw new NoSuchElementException("there is no next element");
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public Optional<T> previous() {
+            return Optional.of(previousElement());
+        }
+
+        @Override
+        public T previousElement() {
+            if(!hasPrevious()){
+                throw new NoSuchElementException("there is no previous element");
+            }
+            next = next == null ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public void set(T element) {
+            if(element == null){
+                throw new IllegalArgumentException("cannot add null element");
+            }
+            if(lastReturned == null){
+                throw new IllegalStateException("no element to set");
+            }
+            lastReturned.data = element;
+            writeCount++;
+            if(metrics != null) metrics.recordOperation(Operation.SET);
+        }
+
+        @Override
+        public void insert(T element) {
+            if(element == null){
+                throw new IllegalArgumentException("cannot add null element");
+            }
+            linkBefore(element, next);
+            nextIndex++;
+            lastReturned = null;
+        }
+
+        @Override
+        public void remove() {
+            if(lastReturned == null){
+                throw new IllegalStateException("no element to remove");
+            }
+            if(next == lastReturned){
+                next = lastReturned.next;
+            }else{
+                nextIndex--;
+            }
+            removeNode(lastReturned);
+            if(metrics != null) metrics.recordOperation(Operation.REMOVE);
+            lastReturned = null;
         }
     }
 }
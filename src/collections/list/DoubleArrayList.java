@@ -0,0 +1,156 @@
+package collections.list;
+
+import core.Collection;
+import core.Iterator;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+
+public class DoubleArrayList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private double[] elements;
+    private int size;
+
+    public DoubleArrayList(){
+        this.elements = new double[DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    public DoubleArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        this.elements = new double[initialCapacity];
+        this.size = 0;
+    }
+
+    private DoubleArrayList(double[] elements, int size){
+        this.elements = elements;
+        this.size = size;
+    }
+
+    public static DoubleArrayList of(double... values){
+        return new DoubleArrayList(Arrays.copyOf(values, values.length), values.length);
+    }
+
+    public static DoubleArrayList fromList(Collection<Double> collection){
+        DoubleArrayList list = new DoubleArrayList(collection.size());
+        Iterator<Double> iterator = collection.iterator();
+        while(iterator.hasNext()){
+            list.add(iterator.next().get());
+        }
+        return list;
+    }
+
+    public CustomArrayList<Double> toList(){
+        CustomArrayList<Double> list = new CustomArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            list.add(elements[i]);
+        }
+        return list;
+    }
+
+    public void add(double element) {
+        ensureCapacity();
+        elements[size++] = element;
+    }
+
+    public double get(int index) throws IndexOutOfBoundsException{
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public boolean set(int index, double element) {
+        if (index < 0 || index >= size) {
+            return false;
+        }
+
+        elements[index] = element;
+        return true;
+    }
+
+    public int indexOf(double element) {
+        for(int i = 0; i < size; i++){
+            if(Double.compare(elements[i], element) == 0){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(double element) {
+        return indexOf(element) >= 0;
+    }
+
+    public void remove(double element) {
+        int index = indexOf(element);
+        if(index >= 0){
+            removeAt(index);
+        }
+    }
+
+    public double removeAt(int index){
+        checkIndex(index);
+        double removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    private void checkIndex(int index){
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index out of bounds for DoubleArrayList of size: " + size);
+        }
+    }
+
+    private void ensureCapacity(){
+        if(size == elements.length){
+            int newCapacity = elements.length == 0 ? DEFAULT_CAPACITY : elements.length * 2;
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public DoubleArrayList filter(DoublePredicate predicate) {
+        DoubleArrayList filtered = new DoubleArrayList();
+        for(int i = 0; i < size; i++){
+            if(predicate.test(elements[i])){
+                filtered.add(elements[i]);
+            }
+        }
+        return filtered;
+    }
+
+    public DoubleArrayList slice(int fromIndex, int toIndex) throws IndexOutOfBoundsException{
+        if(fromIndex < 0 || fromIndex > toIndex || toIndex > size){
+            throw new IndexOutOfBoundsException();
+        }
+        return new DoubleArrayList(Arrays.copyOfRange(elements, fromIndex, toIndex), toIndex - fromIndex);
+    }
+
+    public void forEach(DoubleConsumer action) {
+        for(int i = 0; i < size; i++){
+            action.accept(elements[i]);
+        }
+    }
+
+    public double[] toArray(){
+        return Arrays.copyOf(elements, size);
+    }
+}
@@ -0,0 +1,46 @@
+package collections.list;
+
+// decides how far a CustomArrayList grows its backing array once it is full. The list never trusts a
+// policy to cover the requested capacity: it grows to at least what it needs whatever the policy says
+@FunctionalInterface
+public interface GrowthPolicy {
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    // smallest capacity the geometric policies grow an empty array to
+    int MIN_GROWTH = 10;
+
+    int newCapacity(int currentCapacity, int requiredCapacity);
+
+    // the default: amortised O(1) appends, up to half the array unused right after a resize
+    static GrowthPolicy doubling() {
+        return (current, required) -> clamp(Math.max(current * 2L, MIN_GROWTH), required);
+    }
+
+    // java.util.ArrayList's factor: at most a third of the array unused, at the cost of more frequent copies
+    static GrowthPolicy oneAndHalf() {
+        return (current, required) -> clamp(Math.max(current + (current >> 1), MIN_GROWTH), required);
+    }
+
+    // grows by a constant number of slots; waste is bounded by chunk, but appends become O(n / chunk)
+    static GrowthPolicy fixedChunk(int chunk) {
+        if (chunk <= 0) {
+            throw new IllegalArgumentException("chunk must be positive");
+        }
+        return (current, required) -> clamp((long) current + chunk, required);
+    }
+
+    // follows base until its step would exceed maxIncrement slots, then grows linearly by maxIncrement,
+    // which bounds the unused tail of very large lists
+    static GrowthPolicy capped(GrowthPolicy base, int maxIncrement) {
+        if (base == null) {
+            throw new IllegalArgumentException("base policy cannot be null");
+        }
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("max increment must be positive");
+        }
+        return (current, required) -> clamp(Math.min(base.newCapacity(current, required), (long) current + maxIncrement), required);
+    }
+
+    private static int clamp(long proposed, int required) {
+        return (int) Math.max(Math.min(proposed, MAX_CAPACITY), required);
+    }
+}
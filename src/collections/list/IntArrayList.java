@@ -0,0 +1,156 @@
+package collections.list;
+
+import core.Collection;
+import core.Iterator;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+public class IntArrayList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private int[] elements;
+    private int size;
+
+    public IntArrayList(){
+        this.elements = new int[DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        this.elements = new int[initialCapacity];
+        this.size = 0;
+    }
+
+    private IntArrayList(int[] elements, int size){
+        this.elements = elements;
+        this.size = size;
+    }
+
+    public static IntArrayList of(int... values){
+        return new IntArrayList(Arrays.copyOf(values, values.length), values.length);
+    }
+
+    public static IntArrayList fromList(Collection<Integer> collection){
+        IntArrayList list = new IntArrayList(collection.size());
+        Iterator<Integer> iterator = collection.iterator();
+        while(iterator.hasNext()){
+            list.add(iterator.next().get());
+        }
+        return list;
+    }
+
+    public CustomArrayList<Integer> toList(){
+        CustomArrayList<Integer> list = new CustomArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            list.add(elements[i]);
+        }
+        return list;
+    }
+
+    public void add(int element) {
+        ensureCapacity();
+        elements[size++] = element;
+    }
+
+    public int get(int index) throws IndexOutOfBoundsException{
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public boolean set(int index, int element) {
+        if (index < 0 || index >= size) {
+            return false;
+        }
+
+        elements[index] = element;
+        return true;
+    }
+
+    public int indexOf(int element) {
+        for(int i = 0; i < size; i++){
+            if(elements[i] == element){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int element) {
+        return indexOf(element) >= 0;
+    }
+
+    public void remove(int element) {
+        int index = indexOf(element);
+        if(index >= 0){
+            removeAt(index);
+        }
+    }
+
+    public int removeAt(int index){
+        checkIndex(index);
+        int removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    private void checkIndex(int index){
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index out of bounds for IntArrayList of size: " + size);
+        }
+    }
+
+    private void ensureCapacity(){
+        if(size == elements.length){
+            int newCapacity = elements.length == 0 ? DEFAULT_CAPACITY : elements.length * 2;
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public IntArrayList filter(IntPredicate predicate) {
+        IntArrayList filtered = new IntArrayList();
+        for(int i = 0; i < size; i++){
+            if(predicate.test(elements[i])){
+                filtered.add(elements[i]);
+            }
+        }
+        return filtered;
+    }
+
+    public IntArrayList slice(int fromIndex, int toIndex) throws IndexOutOfBoundsException{
+        if(fromIndex < 0 || fromIndex > toIndex || toIndex > size){
+            throw new IndexOutOfBoundsException();
+        }
+        return new IntArrayList(Arrays.copyOfRange(elements, fromIndex, toIndex), toIndex - fromIndex);
+    }
+
+    public void forEach(IntConsumer action) {
+        for(int i = 0; i < size; i++){
+            action.accept(elements[i]);
+        }
+    }
+
+    public int[] toArray(){
+        return Arrays.copyOf(elements, size);
+    }
+}
@@ -0,0 +1,156 @@
+package collections.list;
+
+import core.Collection;
+import core.Iterator;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+public class LongArrayList {
+    private static final int DEFAULT_CAPACITY = 10;
+    private long[] elements;
+    private int size;
+
+    public LongArrayList(){
+        this.elements = new long[DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    public LongArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        this.elements = new long[initialCapacity];
+        this.size = 0;
+    }
+
+    private LongArrayList(long[] elements, int size){
+        this.elements = elements;
+        this.size = size;
+    }
+
+    public static LongArrayList of(long... values){
+        return new LongArrayList(Arrays.copyOf(values, values.length), values.length);
+    }
+
+    public static LongArrayList fromList(Collection<Long> collection){
+        LongArrayList list = new LongArrayList(collection.size());
+        Iterator<Long> iterator = collection.iterator();
+        while(iterator.hasNext()){
+            list.add(iterator.next().get());
+        }
+        return list;
+    }
+
+    public CustomArrayList<Long> toList(){
+        CustomArrayList<Long> list = new CustomArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            list.add(elements[i]);
+        }
+        return list;
+    }
+
+    public void add(long element) {
+        ensureCapacity();
+        elements[size++] = element;
+    }
+
+    public long get(int index) throws IndexOutOfBoundsException{
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public boolean set(int index, long element) {
+        if (index < 0 || index >= size) {
+            return false;
+        }
+
+        elements[index] = element;
+        return true;
+    }
+
+    public int indexOf(long element) {
+        for(int i = 0; i < size; i++){
+            if(elements[i] == element){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(long element) {
+        return indexOf(element) >= 0;
+    }
+
+    public void remove(long element) {
+        int index = indexOf(element);
+        if(index >= 0){
+            removeAt(index);
+        }
+    }
+
+    public long removeAt(int index){
+        checkIndex(index);
+        long removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    private void checkIndex(int index){
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index out of bounds for LongArrayList of size: " + size);
+        }
+    }
+
+    private void ensureCapacity(){
+        if(size == elements.length){
+            int newCapacity = elements.length == 0 ? DEFAULT_CAPACITY : elements.length * 2;
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public LongArrayList filter(LongPredicate predicate) {
+        LongArrayList filtered = new LongArrayList();
+        for(int i = 0; i < size; i++){
+            if(predicate.test(elements[i])){
+                filtered.add(elements[i]);
+            }
+        }
+        return filtered;
+    }
+
+    public LongArrayList slice(int fromIndex, int toIndex) throws IndexOutOfBoundsException{
+        if(fromIndex < 0 || fromIndex > toIndex || toIndex > size){
+            throw new IndexOutOfBoundsException();
+        }
+        return new LongArrayList(Arrays.copyOfRange(elements, fromIndex, toIndex), toIndex - fromIndex);
+    }
+
+    public void forEach(LongConsumer action) {
+        for(int i = 0; i < size; i++){
+            action.accept(elements[i]);
+        }
+    }
+
+    public long[] toArray(){
+        return Arrays.copyOf(elements, size);
+    }
+}
@@ -0,0 +1,308 @@
+package collections.list;
+
+import core.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// persistent list of fixed-width records in a memory-mapped file. The file is a 64 byte header
+// followed by the records; it is mapped in power-of-two segments on first touch, and records are
+// decoded only when read, so reopening a large file costs a header read rather than a full load.
+// Writes reach the page cache immediately and the disk on flush() or close()
+public class MappedFileList<T> implements List<T>, Collection<T>, AutoCloseable {
+    private static final int MAGIC = 0x43434D4C;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int SIZE_OFFSET = 16;
+    private static final int DEFAULT_SEGMENT_RECORDS = 1 << 16;
+    private static final int MAX_SEGMENT_BYTES = 1 << 30;
+    private static final int MAX_SEGMENT_SHIFT = 30;
+
+    private final FileChannel channel;
+    private final RecordCodec<T> codec;
+    private final int recordSize;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer[] segments = new MappedByteBuffer[4];
+    private int size;
+    private boolean closed;
+
+    private MappedFileList(FileChannel channel, RecordCodec<T> codec, int segmentShift, MappedByteBuffer header, int size) {
+        this.channel = channel;
+        this.codec = codec;
+        this.recordSize = codec.recordSize();
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1 << segmentShift) - 1;
+        this.header = header;
+        this.size = size;
+    }
+
+    // opens path, creating it with an empty list if it does not exist yet
+    public static <T> MappedFileList<T> open(Path path, RecordCodec<T> codec) throws IOException {
+        return open(path, codec, DEFAULT_SEGMENT_RECORDS);
+    }
+
+    // recordsPerSegment only applies to new files; existing files keep the geometry in their header
+    public static <T> MappedFileList<T> open(Path path, RecordCodec<T> codec, int recordsPerSegment) throws IOException {
+        if (codec.recordSize() <= 0) {
+            throw new IllegalArgumentException("record size must be positive");
+        }
+        if (recordsPerSegment <= 0) {
+            throw new IllegalArgumentException("records per segment must be positive");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean created = channel.size() == 0;
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            int segmentShift;
+            int size;
+            if (created) {
+                int segmentRecords = Integer.highestOneBit(
+                        Math.min(recordsPerSegment, Math.max(1, MAX_SEGMENT_BYTES / codec.recordSize())));
+                segmentShift = Integer.numberOfTrailingZeros(segmentRecords);
+                size = 0;
+                header.putInt(0, MAGIC);
+                header.putInt(4, VERSION);
+                header.putInt(8, codec.recordSize());
+                header.putInt(12, segmentShift);
+                header.putLong(SIZE_OFFSET, 0);
+            } else {
+                if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                    throw new IOException(path + " is not a MappedFileList file");
+                }
+                if (header.getInt(8) != codec.recordSize()) {
+                    throw new IOException(path + " holds " + header.getInt(8) + " byte records, codec expects " + codec.recordSize());
+                }
+                segmentShift = header.getInt(12);
+                if (segmentShift < 0 || segmentShift > MAX_SEGMENT_SHIFT) {
+                    throw new IOException(path + " has an invalid segment shift: " + segmentShift);
+                }
+                long storedSize = header.getLong(SIZE_OFFSET);
+                if (storedSize < 0 || storedSize > Integer.MAX_VALUE) {
+                    throw new IOException(path + " has an invalid size: " + storedSize);
+                }
+                size = (int) storedSize;
+            }
+            return new MappedFileList<>(channel, codec, segmentShift, header, size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("MappedFileList has been closed");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index out of bounds for MappedFileList of size: " + size);
+        }
+    }
+
+    private MappedByteBuffer segmentOf(int index) {
+        int segment = index >>> segmentShift;
+        if (segment >= segments.length) {
+            segments = Arrays.copyOf(segments, Math.max(segments.length * 2, segment + 1));
+        }
+        MappedByteBuffer mapped = segments[segment];
+        if (mapped == null) {
+            long segmentBytes = (long) (segmentMask + 1) * recordSize;
+            try {
+                mapped = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + segment * segmentBytes, segmentBytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            segments[segment] = mapped;
+        }
+        return mapped;
+    }
+
+    private int offsetOf(int index) {
+        return (index & segmentMask) * recordSize;
+    }
+
+    private void setSize(int newSize) {
+        size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    @Override
+    public void add(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null element");
+        }
+        checkOpen();
+        codec.encode(element, segmentOf(size), offsetOf(size));
+        setSize(size + 1);
+    }
+
+    @Override
+    public Optional<T> get(int index) {
+        return Optional.of(elementAt(index));
+    }
+
+    public T elementAt(int index) {
+        checkOpen();
+        checkIndex(index);
+        return codec.decode(segmentOf(index), offsetOf(index));
+    }
+
+    public boolean set(int index, T element) {
+        if (element == null || index < 0 || index >= size) {
+            return false;
+        }
+        checkOpen();
+        codec.encode(element, segmentOf(index), offsetOf(index));
+        return true;
+    }
+
+    @Override
+    public Optional<Integer> indexOf(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("cannot find null element");
+        }
+        checkOpen();
+        for (int i = 0; i < size; i++) {
+            if (element.equals(codec.decode(segmentOf(i), offsetOf(i)))) {
+                return Optional.of(i);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void remove(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("cannot remove null element");
+        }
+        Optional<Integer> index = indexOf(element);
+        if (index.isPresent()) {
+            removeAt(index.get());
+        }
+    }
+
+    private void removeAt(int index) {
+        checkIndex(index);
+        byte[] scratch = new byte[recordSize];
+        for (int i = index; i < size - 1; i++) {
+            segmentOf(i + 1).get(offsetOf(i + 1), scratch);
+            segmentOf(i).put(offsetOf(i), scratch);
+        }
+        setSize(size - 1);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element).isPresent();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // the file keeps its length; later appends overwrite the old records
+    @Override
+    public void clear() {
+        checkOpen();
+        setSize(0);
+    }
+
+    // takes exactly collection.size() elements, so adding a list to itself terminates
+    @Override
+    public void addAll(Collection<T> collection) {
+        int remaining = collection.size();
+        Iterator<T> iterator = collection.iterator();
+        while (remaining-- > 0 && iterator.hasNext()) {
+            add(iterator.nextElement());
+        }
+    }
+
+    // forces every mapped segment and the header to the storage device
+    public void flush() {
+        checkOpen();
+        for (MappedByteBuffer segment : segments) {
+            if (segment != null) {
+                segment.force();
+            }
+        }
+        header.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        for (int i = 0; i < segments.length; i++) {
+            DirectMemory.free(segments[i]);
+            segments[i] = null;
+        }
+        DirectMemory.free(header);
+        channel.close();
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        checkOpen();
+        for (int i = 0; i < size; i++) {
+            action.accept(codec.decode(segmentOf(i), offsetOf(i)));
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        checkOpen();
+        return new Iterator<T>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public Optional<T> next() {
+                return Optional.of(nextElement());
+            }
+
+            @Override
+            public T nextElement() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elementAt(currentIndex++);
+            }
+
+            @Override
+            public void remove() {
+                if (currentIndex == 0) {
+                    throw new IllegalStateException("Cannot remove before first next() call");
+                }
+                removeAt(--currentIndex);
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package collections.list;
+
+import collections.map.CustomHashSet;
+import core.Collection;
+
+import java.util.function.Predicate;
+
+// membership test for retainAll-style bulk operations: small collections are probed directly, larger
+// ones are copied into a hash set once, so a pass over n elements stays O(n) rather than O(n * m)
+final class Membership {
+    private static final int HASH_THRESHOLD = 16;
+
+    private Membership() {}
+
+    static <T> Predicate<T> of(Collection<T> collection) {
+        if (collection.size() <= HASH_THRESHOLD || collection instanceof CustomHashSet) {
+            return collection::contains;
+        }
+        CustomHashSet<T> set = new CustomHashSet<>(collection.size());
+        set.addAll(collection);
+        return set::contains;
+    }
+}
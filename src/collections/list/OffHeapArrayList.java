@@ -0,0 +1,292 @@
+package collections.list;
+
+import core.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// list of fixed-width records stored outside the Java heap. Records live in direct-buffer chunks of
+// a power-of-two record count; growing adds a chunk and never moves existing records. Elements are
+// decoded on every read, so the heap only ever holds the chunk references and whatever the caller keeps
+public class OffHeapArrayList<T> implements List<T>, Collection<T>, Sortable<T>, AutoCloseable {
+    private static final int DEFAULT_CHUNK_RECORDS = 1 << 16;
+    private static final int MAX_CHUNK_BYTES = 1 << 30;
+
+    private final RecordCodec<T> codec;
+    private final int recordSize;
+    private final int chunkShift;
+    private final int chunkMask;
+    private ByteBuffer[] chunks = new ByteBuffer[4];
+    private int chunkCount;
+    private int size;
+    private boolean closed;
+
+    public OffHeapArrayList(RecordCodec<T> codec) {
+        this(codec, DEFAULT_CHUNK_RECORDS);
+    }
+
+    public OffHeapArrayList(RecordCodec<T> codec, int recordsPerChunk) {
+        if (codec.recordSize() <= 0) {
+            throw new IllegalArgumentException("record size must be positive");
+        }
+        if (recordsPerChunk <= 0) {
+            throw new IllegalArgumentException("records per chunk must be positive");
+        }
+        this.codec = codec;
+        this.recordSize = codec.recordSize();
+        int chunkRecords = Integer.highestOneBit(Math.min(recordsPerChunk, Math.max(1, MAX_CHUNK_BYTES / recordSize)));
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkRecords);
+        this.chunkMask = chunkRecords - 1;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("OffHeapArrayList has been closed");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index out of bounds for OffHeapArrayList of size: " + size);
+        }
+    }
+
+    private ByteBuffer chunkOf(int index) {
+        return chunks[index >>> chunkShift];
+    }
+
+    private int offsetOf(int index) {
+        return (index & chunkMask) * recordSize;
+    }
+
+    private void ensureCapacity(int required) {
+        while ((long) chunkCount << chunkShift < required) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            }
+            chunks[chunkCount++] = ByteBuffer.allocateDirect((chunkMask + 1) * recordSize).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    public long capacityBytes() {
+        return (long) chunkCount * (chunkMask + 1) * recordSize;
+    }
+
+    @Override
+    public void add(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null element");
+        }
+        checkOpen();
+        ensureCapacity(size + 1);
+        codec.encode(element, chunkOf(size), offsetOf(size));
+        size++;
+    }
+
+    @Override
+    public Optional<T> get(int index) {
+        return Optional.of(elementAt(index));
+    }
+
+    public T elementAt(int index) {
+        checkOpen();
+        checkIndex(index);
+        return codec.decode(chunkOf(index), offsetOf(index));
+    }
+
+    public boolean set(int index, T element) {
+        if (element == null || index < 0 || index >= size) {
+            return false;
+        }
+        checkOpen();
+        codec.encode(element, chunkOf(index), offsetOf(index));
+        return true;
+    }
+
+    @Override
+    public Optional<Integer> indexOf(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("cannot find null element");
+        }
+        checkOpen();
+        for (int i = 0; i < size; i++) {
+            if (element.equals(codec.decode(chunkOf(i), offsetOf(i)))) {
+                return Optional.of(i);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void remove(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("cannot remove null element");
+        }
+        Optional<Integer> index = indexOf(element);
+        if (index.isPresent()) {
+            removeAt(index.get());
+        }
+    }
+
+    private void removeAt(int index) {
+        checkIndex(index);
+        byte[] scratch = new byte[recordSize];
+        for (int i = index; i < size - 1; i++) {
+            chunkOf(i + 1).get(offsetOf(i + 1), scratch);
+            chunkOf(i).put(offsetOf(i), scratch);
+        }
+        size--;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element).isPresent();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // keeps the chunks for reuse; use close() to give the memory back
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        for (int i = 0; i < chunkCount; i++) {
+            DirectMemory.free(chunks[i]);
+            chunks[i] = null;
+        }
+        chunkCount = 0;
+        size = 0;
+        closed = true;
+    }
+
+    // takes exactly collection.size() elements, so adding a list to itself terminates
+    @Override
+    public void addAll(Collection<T> collection) {
+        int remaining = collection.size();
+        ensureCapacity(size + remaining);
+        Iterator<T> iterator = collection.iterator();
+        while (remaining-- > 0 && iterator.hasNext()) {
+            add(iterator.nextElement());
+        }
+    }
+
+    // sorts a heap-side int permutation (stable merge sort, decoding records to compare them),
+    // then applies it to the records in place by following its cycles with two scratch records
+    @Override
+    public void sort(Comparator<T> comparator) {
+        checkOpen();
+        if (size <= 1) {
+            return;
+        }
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        mergeSort(order, new int[size], 0, size, comparator);
+
+        byte[] held = new byte[recordSize];
+        byte[] scratch = new byte[recordSize];
+        boolean[] placed = new boolean[size];
+        for (int start = 0; start < size; start++) {
+            if (placed[start] || order[start] == start) {
+                continue;
+            }
+            chunkOf(start).get(offsetOf(start), held);
+            int target = start;
+            while (true) {
+                int source = order[target];
+                placed[target] = true;
+                if (source == start) {
+                    chunkOf(target).put(offsetOf(target), held);
+                    break;
+                }
+                chunkOf(source).get(offsetOf(source), scratch);
+                chunkOf(target).put(offsetOf(target), scratch);
+                target = source;
+            }
+        }
+    }
+
+    private void mergeSort(int[] order, int[] buffer, int from, int to, Comparator<T> comparator) {
+        if (to - from <= 1) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(order, buffer, from, mid, comparator);
+        mergeSort(order, buffer, mid, to, comparator);
+        if (comparator.compare(elementAt(order[mid - 1]), elementAt(order[mid])) <= 0) {
+            return;
+        }
+        System.arraycopy(order, from, buffer, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && comparator.compare(elementAt(buffer[left]), elementAt(buffer[right])) <= 0)) {
+                order[i] = buffer[left++];
+            } else {
+                order[i] = buffer[right++];
+            }
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        checkOpen();
+        for (int i = 0; i < size; i++) {
+            action.accept(codec.decode(chunkOf(i), offsetOf(i)));
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        checkOpen();
+        return new Iterator<T>() {
+            private int currentIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currentIndex < size;
+            }
+
+            @Override
+            public Optional<T> next() {
+                return Optional.of(nextElement());
+            }
+
+            @Override
+            public T nextElement() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elementAt(currentIndex++);
+            }
+
+            @Override
+            public void remove() {
+                if (currentIndex == 0) {
+                    throw new IllegalStateException("Cannot remove before first next() call");
+                }
+                removeAt(--currentIndex);
+            }
+        };
+    }
+}
@@ -0,0 +1,11 @@
+package collections.list;
+
+import java.nio.ByteBuffer;
+
+// maps an element to a fixed-width slot of recordSize() bytes; encode and decode use absolute
+// positions only and must not touch the buffer's position or limit
+public interface RecordCodec<T> {
+    int recordSize();
+    void encode(T element, ByteBuffer target, int offset);
+    T decode(ByteBuffer source, int offset);
+}
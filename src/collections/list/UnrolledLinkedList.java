@@ -0,0 +1,521 @@
+package collections.list;
+
+import core.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+// linked list of small arrays ("chunks"). A traversal reads a run of neighbouring references per node
+// hop instead of chasing one pointer per element, and a middle insert shifts at most one chunk.
+// A full chunk splits in half on insert; a chunk that drops below half full borrows from or merges
+// with its successor, so every chunk but the last stays at least half full after removals.
+// Positional access walks chunk counts from the nearer end, or with setIndexed(true) binary-searches
+// a table of chunk start positions that is rebuilt lazily after the next structural change
+public class UnrolledLinkedList<T> implements List<T>, Collection<T>, Sortable<T>, Filterable<T>, OrderedCollection<T> {
+    private static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    private static final class Chunk {
+        final Object[] items;
+        int count;
+        Chunk next;
+        Chunk prev;
+
+        Chunk(int capacity){
+            this.items = new Object[capacity];
+        }
+    }
+
+    private final int chunkCapacity;
+    private final int minFill;
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+    private int chunkCount;
+    private int modCount;
+    private int writeCount;
+    // chunk index: table[i] holds elements starting at starts[i], valid while tableStale is false
+    private boolean indexed;
+    private Chunk[] table;
+    private int[] starts;
+    private boolean tableStale = true;
+    // position inside the chunk returned by the last locate call
+    private int locatedOffset;
+
+    public UnrolledLinkedList(){
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public UnrolledLinkedList(int chunkCapacity){
+        if(chunkCapacity < 2){
+            throw new IllegalArgumentException("chunk capacity must be at least 2");
+        }
+        this.chunkCapacity = chunkCapacity;
+        this.minFill = chunkCapacity / 2;
+    }
+
+    // the index costs two arrays of chunkCount entries and an O(n / chunkCapacity) rebuild on the
+    // first positional access after an insert or remove; worth it for read-mostly positional workloads
+    public void setIndexed(boolean indexed){
+        this.indexed = indexed;
+        if(!indexed){
+            table = null;
+            starts = null;
+        }
+        tableStale = true;
+    }
+
+    public int chunkCapacity(){
+        return chunkCapacity;
+    }
+
+    public int chunkCount(){
+        return chunkCount;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<T> getFirst() {
+        return size == 0 ? Optional.empty() : Optional.of((T) head.items[0]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<T> getLast() {
+        return size == 0 ? Optional.empty() : Optional.of((T) tail.items[tail.count - 1]);
+    }
+
+    @Override
+    public void addFirst(T element) {
+        if(element == null){
+            throw new IllegalArgumentException("cannot add null element");
+        }
+        if(head == null || head.count == chunkCapacity){
+            linkFirst();
+        }
+        insertInto(head, 0, element);
+        size++;
+        modCount++;
+        tableStale = true;
+    }
+
+    // appending into the tail chunk leaves every chunk start where it was, so only a new chunk stales the index
+    @Override
+    public void addLast(T element) {
+        if(element == null){
+            throw new IllegalArgumentException("cannot add null element");
+        }
+        if(tail == null || tail.count == chunkCapacity){
+            linkAfter(tail);
+            tableStale = true;
+        }
+        tail.items[tail.count++] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void add(T element) {
+        addLast(element);
+    }
+
+    // takes exactly collection.size() elements, so adding a list to itself terminates
+    @Override
+    public void addAll(Collection<T> collection) {
+        int remaining = collection.size();
+        Iterator<T> iterator = collection.iterator();
+        while(remaining-- > 0 && iterator.hasNext()){
+            addLast(iterator.nextElement());
+        }
+    }
+
+    // shifts within one chunk; a full chunk is split first and the element goes into the half that owns index
+    public void insert(int index, T element){
+        if(element == null){
+            throw new IllegalArgumentException("cannot add null element");
+        }
+        if(index < 0 || index > size){
+            throw new IndexOutOfBoundsException("index out of bounds for UnrolledLinkedList of size: " + size);
+        }
+        if(index == size){
+            addLast(element);
+            return;
+        }
+        Chunk chunk = locate(index);
+        int offset = locatedOffset;
+        if(chunk.count == chunkCapacity){
+            Chunk right = split(chunk);
+            if(offset > chunk.count){
+                offset -= chunk.count;
+                chunk = right;
+            }
+        }
+        insertInto(chunk, offset, element);
+        size++;
+        modCount++;
+        tableStale = true;
+    }
+
+    @Override
+    public Optional<T> get(int index) {
+        return Optional.of(elementAt(index));
+    }
+
+    @SuppressWarnings("unchecked")
+    public T elementAt(int index){
+        checkIndex(index);
+        Chunk chunk = locate(index);
+        return (T) chunk.items[locatedOffset];
+    }
+
+    public boolean set(int index, T element) {
+        if(element == null || index < 0 || index >= size){
+            return false;
+        }
+        Chunk chunk = locate(index);
+        chunk.items[locatedOffset] = element;
+        writeCount++;
+        return true;
+    }
+
+    public T removeAt(int index){
+        checkIndex(index);
+        Chunk chunk = locate(index);
+        return removeFrom(chunk, locatedOffset);
+    }
+
+    @Override
+    public void remove(T element) {
+        if(element == null){
+            throw new IllegalArgumentException("cannot remove null element");
+        }
+        for(Chunk chunk = head; chunk != null; chunk = chunk.next){
+            for(int i = 0; i < chunk.count; i++){
+                if(element.equals(chunk.items[i])){
+                    removeFrom(chunk, i);
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public Optional<Integer> indexOf(T element) {
+        if(element == null){
+            throw new IllegalArgumentException("cannot find null element");
+        }
+        int start = 0;
+        for(Chunk chunk = head; chunk != null; chunk = chunk.next){
+            for(int i = 0; i < chunk.count; i++){
+                if(element.equals(chunk.items[i])){
+                    return Optional.of(start + i);
+                }
+            }
+            start += chunk.count;
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element).isPresent();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        head = tail = null;
+        size = 0;
+        chunkCount = 0;
+        modCount++;
+        tableStale = true;
+    }
+
+    // sorts a flat copy and writes it back along the existing chunks, so the layout is unchanged
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<T> comparator) {
+        if(size <= 1) return;
+        T[] sorted = (T[]) toArray();
+        Arrays.sort(sorted, comparator);
+        int position = 0;
+        for(Chunk chunk = head; chunk != null; chunk = chunk.next){
+            System.arraycopy(sorted, position, chunk.items, 0, chunk.count);
+            position += chunk.count;
+        }
+        writeCount++;
+    }
+
+    private Object[] toArray(){
+        Object[] copy = new Object[size];
+        int position = 0;
+        for(Chunk chunk = head; chunk != null; chunk = chunk.next){
+            System.arraycopy(chunk.items, 0, copy, position, chunk.count);
+            position += chunk.count;
+        }
+        return copy;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<T> filter(Predicate<T> predicate) {
+        UnrolledLinkedList<T> filtered = new UnrolledLinkedList<>(chunkCapacity);
+        for(Chunk chunk = head; chunk != null; chunk = chunk.next){
+            for(int i = 0; i < chunk.count; i++){
+                T element = (T) chunk.items[i];
+                if(predicate.test(element)){
+                    filtered.addLast(element);
+                }
+            }
+        }
+        return filtered;
+    }
+
+    @Override
+    public Collection<T> filterView(Predicate<T> predicate) {
+        return new FilteredView<>(this, predicate, this::version);
+    }
+
+    private int version(){
+        return modCount + writeCount;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        for(Chunk chunk = head; chunk != null; chunk = chunk.next){
+            for(int i = 0; i < chunk.count; i++){
+                action.accept((T) chunk.items[i]);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            // position of the next element; chunk is null once the end is reached
+            private Chunk chunk = head;
+            private int offset;
+            private Chunk lastChunk;
+            private int lastOffset;
+
+            @Override
+            public boolean hasNext() {
+                return chunk != null;
+            }
+
+            @Override
+            public Optional<T> next() {
+                return Optional.of(nextElement());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T nextElement() {
+                if(chunk == null){
+                    throw new NoSuchElementException("there is no next element");
+                }
+                lastChunk = chunk;
+                lastOffset = offset;
+                T element = (T) chunk.items[offset++];
+                if(offset == chunk.count){
+                    chunk = chunk.next;
+                    offset = 0;
+                }
+                return element;
+            }
+
+            // removeFrom only pulls successors' elements onto the end of the chunk it removed from,
+            // so the next element is at lastOffset there, or first in the successor if the chunk emptied
+            @Override
+            public void remove() {
+                if(lastChunk == null){
+                    throw new IllegalStateException("Cannot remove before next() or twice for one element");
+                }
+                Chunk after = lastChunk.next;
+                removeFrom(lastChunk, lastOffset);
+                if(lastChunk.count == 0){
+                    chunk = after;
+                    offset = 0;
+                }else if(lastOffset == lastChunk.count){
+                    chunk = lastChunk.next;
+                    offset = 0;
+                }else{
+                    chunk = lastChunk;
+                    offset = lastOffset;
+                }
+                lastChunk = null;
+            }
+        };
+    }
+
+    private void checkIndex(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("index out of bounds for UnrolledLinkedList of size: " + size);
+        }
+    }
+
+    // finds the chunk holding index and leaves the position inside it in locatedOffset
+    private Chunk locate(int index){
+        if(indexed){
+            if(tableStale){
+                rebuildTable();
+            }
+            int low = 0;
+            int high = chunkCount - 1;
+            while(low < high){
+                int mid = (low + high + 1) >>> 1;
+                if(starts[mid] <= index){
+                    low = mid;
+                }else{
+                    high = mid - 1;
+                }
+            }
+            locatedOffset = index - starts[low];
+            return table[low];
+        }
+        if(index < size / 2){
+            Chunk chunk = head;
+            int start = 0;
+            while(index >= start + chunk.count){
+                start += chunk.count;
+                chunk = chunk.next;
+            }
+            locatedOffset = index - start;
+            return chunk;
+        }
+        Chunk chunk = tail;
+        int start = size - chunk.count;
+        while(index < start){
+            chunk = chunk.prev;
+            start -= chunk.count;
+        }
+        locatedOffset = index - start;
+        return chunk;
+    }
+
+    private void rebuildTable(){
+        if(table == null || table.length < chunkCount){
+            table = new Chunk[Math.max(chunkCount, 16)];
+            starts = new int[table.length];
+        }
+        int i = 0;
+        int start = 0;
+        for(Chunk chunk = head; chunk != null; chunk = chunk.next){
+            table[i] = chunk;
+            starts[i++] = start;
+            start += chunk.count;
+        }
+        Arrays.fill(table, i, table.length, null);
+        tableStale = false;
+    }
+
+    private void insertInto(Chunk chunk, int offset, T element){
+        System.arraycopy(chunk.items, offset, chunk.items, offset + 1, chunk.count - offset);
+        chunk.items[offset] = element;
+        chunk.count++;
+    }
+
+    // moves the upper half of a full chunk into a new successor and returns it
+    private Chunk split(Chunk chunk){
+        Chunk right = linkAfter(chunk);
+        int keep = chunk.count / 2;
+        int moved = chunk.count - keep;
+        System.arraycopy(chunk.items, keep, right.items, 0, moved);
+        Arrays.fill(chunk.items, keep, chunk.count, null);
+        chunk.count = keep;
+        right.count = moved;
+        return right;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T removeFrom(Chunk chunk, int offset){
+        T removed = (T) chunk.items[offset];
+        System.arraycopy(chunk.items, offset + 1, chunk.items, offset, chunk.count - offset - 1);
+        chunk.items[--chunk.count] = null;
+        size--;
+        modCount++;
+        tableStale = true;
+        if(chunk.count == 0){
+            unlink(chunk);
+        }else if(chunk.count < minFill && chunk.next != null){
+            refill(chunk);
+        }
+        return removed;
+    }
+
+    // merges the successor into an underfull chunk when both fit, otherwise borrows from its front
+    // until the two are about even
+    private void refill(Chunk chunk){
+        Chunk next = chunk.next;
+        if(chunk.count + next.count <= chunkCapacity){
+            System.arraycopy(next.items, 0, chunk.items, chunk.count, next.count);
+            chunk.count += next.count;
+            unlink(next);
+            return;
+        }
+        int moved = (next.count - chunk.count) / 2;
+        System.arraycopy(next.items, 0, chunk.items, chunk.count, moved);
+        System.arraycopy(next.items, moved, next.items, 0, next.count - moved);
+        Arrays.fill(next.items, next.count - moved, next.count, null);
+        chunk.count += moved;
+        next.count -= moved;
+    }
+
+    private void linkFirst(){
+        Chunk chunk = new Chunk(chunkCapacity);
+        chunk.next = head;
+        if(head != null){
+            head.prev = chunk;
+        }else{
+            tail = chunk;
+        }
+        head = chunk;
+        chunkCount++;
+    }
+
+    // links a new empty chunk after predecessor, or as the only chunk when predecessor is null
+    private Chunk linkAfter(Chunk predecessor){
+        if(predecessor == null){
+            linkFirst();
+            return head;
+        }
+        Chunk chunk = new Chunk(chunkCapacity);
+        chunk.prev = predecessor;
+        chunk.next = predecessor.next;
+        if(predecessor.next != null){
+            predecessor.next.prev = chunk;
+        }else{
+            tail = chunk;
+        }
+        predecessor.next = chunk;
+        chunkCount++;
+        return chunk;
+    }
+
+    private void unlink(Chunk chunk){
+        if(chunk.prev != null){
+            chunk.prev.next = chunk.next;
+        }else{
+            head = chunk.next;
+        }
+        if(chunk.next != null){
+            chunk.next.prev = chunk.prev;
+        }else{
+            tail = chunk.prev;
+        }
+        chunkCount--;
+    }
+}
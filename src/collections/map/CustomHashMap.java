@@ -0,0 +1,307 @@
+package collections.map;
+
+import core.Collection;
+import core.Iterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+// open-addressing map with linear probing over parallel key/value arrays, so there is no
+// per-entry node; removals shift the rest of the probe run back instead of leaving tombstones
+public class CustomHashMap<K, V> implements Collection<CustomHashMap.Entry<K, V>> {
+
+    public static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+
+        public Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return key.equals(other.key) && value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    private final float loadFactor;
+    private Object[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public CustomHashMap() {
+        this(Hashing.DEFAULT_EXPECTED_SIZE, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    public CustomHashMap(int expectedSize) {
+        this(expectedSize, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    public CustomHashMap(int expectedSize, float loadFactor) {
+        Hashing.checkLoadFactor(loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(Hashing.capacityFor(expectedSize, loadFactor));
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    // slot holding key, or the empty slot where it would be inserted (encoded as -(slot + 1))
+    private int find(Object key) {
+        int slot = Hashing.mix(key) & mask;
+        while (true) {
+            Object current = keys[slot];
+            if (current == null) {
+                return -(slot + 1);
+            }
+            if (current.equals(key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public Optional<V> put(K key, V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("cannot add null key or value");
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            Optional<V> previous = Optional.of(valueAt(slot));
+            values[slot] = value;
+            return previous;
+        }
+        if (size >= resizeThreshold) {
+            resize();
+            slot = find(key);
+        }
+        slot = -slot - 1;
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        return Optional.empty();
+    }
+
+    public Optional<V> get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("cannot find null key");
+        }
+        int slot = find(key);
+        return slot >= 0 ? Optional.of(valueAt(slot)) : Optional.empty();
+    }
+
+    public V getOrDefault(K key, V defaultValue) {
+        if (key == null) {
+            throw new IllegalArgumentException("cannot find null key");
+        }
+        int slot = find(key);
+        return slot >= 0 ? valueAt(slot) : defaultValue;
+    }
+
+    public boolean containsKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("cannot find null key");
+        }
+        return find(key) >= 0;
+    }
+
+    public Optional<V> remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("cannot remove null key");
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return Optional.empty();
+        }
+        V removed = valueAt(slot);
+        removeAt(slot);
+        return Optional.of(removed);
+    }
+
+    // backward-shift deletion: pulls later members of the probe run into the gap when their
+    // home slot is at or before it, so lookups never need tombstones
+    private void removeAt(int slot) {
+        int gap = slot;
+        int i = slot;
+        while (true) {
+            i = (i + 1) & mask;
+            Object key = keys[i];
+            if (key == null) {
+                break;
+            }
+            int home = Hashing.mix(key) & mask;
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = null;
+        values[gap] = null;
+        size--;
+    }
+
+    private void resize() {
+        if (keys.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("CustomHashMap cannot grow beyond " + Hashing.MAX_CAPACITY + " slots");
+        }
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object key = oldKeys[i];
+            if (key != null) {
+                int slot = Hashing.mix(key) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int slot) {
+        return (K) keys[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept(keyAt(i), valueAt(i));
+            }
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super Entry<K, V>> action) {
+        forEach((key, value) -> action.accept(new Entry<>(key, value)));
+    }
+
+    @Override
+    public void addAll(Collection<Entry<K, V>> collection) {
+        Iterator<Entry<K, V>> iterator = collection.iterator();
+        while (iterator.hasNext()) {
+            Entry<K, V> entry = iterator.nextElement();
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public boolean contains(Entry<K, V> element) {
+        if (element == null) {
+            throw new IllegalArgumentException("cannot find null element");
+        }
+        int slot = find(element.getKey());
+        return slot >= 0 && Objects.equals(values[slot], element.getValue());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = null;
+            values[i] = null;
+        }
+        size = 0;
+    }
+
+    // walks slots downwards starting just below an empty slot, so every element that a
+    // backward shift can move during remove() has already been visited
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new Iterator<Entry<K, V>>() {
+            private int slot = Hashing.emptySlot(keys);
+            private int unvisited = keys.length;
+            private int nextSlot = advance();
+            private int lastReturned = -1;
+
+            private int advance() {
+                while (unvisited > 0) {
+                    slot = (slot - 1) & mask;
+                    unvisited--;
+                    if (keys[slot] != null) {
+                        return slot;
+                    }
+                }
+                return -1;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextSlot >= 0;
+            }
+
+            @Override
+            public Optional<Entry<K, V>> next() {
+                return Optional.of(nextElement());
+            }
+
+            @Override
+            public Entry<K, V> nextElement() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("no next element");
+                }
+                lastReturned = nextSlot;
+                nextSlot = advance();
+                return new Entry<>(keyAt(lastReturned), valueAt(lastReturned));
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned < 0) {
+                    throw new IllegalStateException("Cannot remove before first next() call");
+                }
+                removeAt(lastReturned);
+                lastReturned = -1;
+            }
+        };
+    }
+}
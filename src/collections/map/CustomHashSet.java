@@ -0,0 +1,213 @@
+package collections.map;
+
+import core.Collection;
+import core.Iterator;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// keys-only counterpart of CustomHashMap: a single linear-probing array with backward-shift deletion
+public class CustomHashSet<T> implements Collection<T> {
+    private final float loadFactor;
+    private Object[] elements;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public CustomHashSet() {
+        this(Hashing.DEFAULT_EXPECTED_SIZE, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    public CustomHashSet(int expectedSize) {
+        this(expectedSize, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    public CustomHashSet(int expectedSize, float loadFactor) {
+        Hashing.checkLoadFactor(loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(Hashing.capacityFor(expectedSize, loadFactor));
+    }
+
+    private void allocate(int capacity) {
+        elements = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    // slot holding element, or the empty slot where it would be inserted (encoded as -(slot + 1))
+    private int find(Object element) {
+        int slot = Hashing.mix(element) & mask;
+        while (true) {
+            Object current = elements[slot];
+            if (current == null) {
+                return -(slot + 1);
+            }
+            if (current.equals(element)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public boolean add(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null element");
+        }
+        int slot = find(element);
+        if (slot >= 0) {
+            return false;
+        }
+        if (size >= resizeThreshold) {
+            resize();
+            slot = find(element);
+        }
+        elements[-slot - 1] = element;
+        size++;
+        return true;
+    }
+
+    public boolean remove(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("cannot remove null element");
+        }
+        int slot = find(element);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    private void removeAt(int slot) {
+        int gap = slot;
+        int i = slot;
+        while (true) {
+            i = (i + 1) & mask;
+            Object element = elements[i];
+            if (element == null) {
+                break;
+            }
+            int home = Hashing.mix(element) & mask;
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                elements[gap] = element;
+                gap = i;
+            }
+        }
+        elements[gap] = null;
+        size--;
+    }
+
+    private void resize() {
+        if (elements.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("CustomHashSet cannot grow beyond " + Hashing.MAX_CAPACITY + " slots");
+        }
+        Object[] old = elements;
+        allocate(old.length * 2);
+        for (Object element : old) {
+            if (element != null) {
+                int slot = Hashing.mix(element) & mask;
+                while (elements[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                elements[slot] = element;
+            }
+        }
+    }
+
+    @Override
+    public void addAll(Collection<T> collection) {
+        Iterator<T> iterator = collection.iterator();
+        while (iterator.hasNext()) {
+            add(iterator.nextElement());
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("cannot find null element");
+        }
+        return find(element) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = null;
+        }
+        size = 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        for (Object element : elements) {
+            if (element != null) {
+                action.accept((T) element);
+            }
+        }
+    }
+
+    // same downward walk as CustomHashMap's iterator so remove() never hides an unvisited element
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int slot = Hashing.emptySlot(elements);
+            private int unvisited = elements.length;
+            private int nextSlot = advance();
+            private int lastReturned = -1;
+
+            private int advance() {
+                while (unvisited > 0) {
+                    slot = (slot - 1) & mask;
+                    unvisited--;
+                    if (elements[slot] != null) {
+                        return slot;
+                    }
+                }
+                return -1;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextSlot >= 0;
+            }
+
+            @Override
+            public Optional<T> next() {
+                return Optional.of(nextElement());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T nextElement() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("no next element");
+                }
+                lastReturned = nextSlot;
+                nextSlot = advance();
+                return (T) elements[lastReturned];
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned < 0) {
+                    throw new IllegalStateException("Cannot remove before first next() call");
+                }
+                removeAt(lastReturned);
+                lastReturned = -1;
+            }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package collections.map;
+
+final class Hashing {
+    static final int DEFAULT_EXPECTED_SIZE = 8;
+    static final float DEFAULT_LOAD_FACTOR = 0.5f;
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private Hashing() {}
+
+    // scrambles hashCode so that the low bits used for the slot depend on every bit of the hash
+    static int mix(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static void checkLoadFactor(float loadFactor) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("load factor must be between 0 and 1 exclusive");
+        }
+    }
+
+    // smallest power of two that holds expectedSize elements without exceeding the load factor
+    static int capacityFor(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expected size cannot be negative");
+        }
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor) + 1;
+        if (needed > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(2, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    // tables are never full, so iteration can always start next to an empty slot
+    static int emptySlot(Object[] table) {
+        for (int i = table.length - 1; i >= 0; i--) {
+            if (table[i] == null) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("open-addressing table has no empty slot");
+    }
+}
@@ -0,0 +1,245 @@
+package collections.metrics;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import jdk.jfr.FlightRecorder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// opt-in counters for a collection, attached with setMetrics. Collections only call in here when a
+// metrics object is attached, so a collection without one pays a null check per operation. Counters are
+// striped LongAdders, so one CollectionMetrics can be shared by collections used from several threads
+public final class CollectionMetrics {
+    // bytes per reference slot, used to turn copied elements into copied bytes
+    static final int REFERENCE_BYTES = referenceBytes();
+
+    private final String name;
+    private final LongAdder[] operations = new LongAdder[Operation.values().length];
+    private final LongAdder growthEvents = new LongAdder();
+    private final LongAdder bytesCopied = new LongAdder();
+    private final LongAdder elementsCompared = new LongAdder();
+    private final LongAccumulator peakSize = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator peakCapacity = new LongAccumulator(Math::max, 0);
+    // racy hints so recordOccupancy only touches the accumulators when a peak may have moved
+    private int peakSizeHint;
+    private int peakCapacityHint;
+    private ObjectName objectName;
+    private Runnable periodicHook;
+
+    public CollectionMetrics(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("name cannot be null");
+        }
+        this.name = name;
+        for (int i = 0; i < operations.length; i++) {
+            operations[i] = new LongAdder();
+        }
+    }
+
+    private static int referenceBytes() {
+        try {
+            HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return Boolean.parseBoolean(hotSpot.getVMOption("UseCompressedOops").getValue()) ? 4 : 8;
+        } catch (RuntimeException | LinkageError e) {
+            return 8;
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public void recordOperation(Operation operation) {
+        operations[operation.ordinal()].increment();
+    }
+
+    public void recordOperations(Operation operation, long count) {
+        operations[operation.ordinal()].add(count);
+    }
+
+    public void recordComparisons(long count) {
+        elementsCompared.add(count);
+    }
+
+    // the backing store was reallocated from oldCapacity to newCapacity, carrying copiedElements over
+    public void recordGrowth(int oldCapacity, int newCapacity, int copiedElements) {
+        growthEvents.increment();
+        recordCopy(copiedElements);
+        recordOccupancy(0, newCapacity);
+    }
+
+    public void recordCopy(int copiedElements) {
+        bytesCopied.add((long) copiedElements * REFERENCE_BYTES);
+    }
+
+    public void recordOccupancy(int size, int capacity) {
+        if (size > peakSizeHint) {
+            peakSizeHint = size;
+            peakSize.accumulate(size);
+        }
+        if (capacity > peakCapacityHint) {
+            peakCapacityHint = capacity;
+            peakCapacity.accumulate(capacity);
+        }
+    }
+
+    public MetricsSnapshot snapshot() {
+        long[] counts = new long[operations.length];
+        for (int i = 0; i < operations.length; i++) {
+            counts[i] = operations[i].sum();
+        }
+        return new MetricsSnapshot(name, counts, growthEvents.sum(), bytesCopied.sum(),
+                elementsCompared.sum(), peakSize.get(), peakCapacity.get());
+    }
+
+    // not atomic with respect to concurrent recording
+    public void reset() {
+        for (LongAdder operation : operations) {
+            operation.reset();
+        }
+        growthEvents.reset();
+        bytesCopied.reset();
+        elementsCompared.reset();
+        peakSize.reset();
+        peakCapacity.reset();
+        peakSizeHint = 0;
+        peakCapacityHint = 0;
+    }
+
+    // registers an MXBean named collections:type=CollectionMetrics,name=<name> with the platform MBean server
+    public synchronized ObjectName registerMBean() throws JMException {
+        if (objectName == null) {
+            ObjectName candidate = new ObjectName("collections:type=CollectionMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBeanView(), candidate);
+            objectName = candidate;
+        }
+        return objectName;
+    }
+
+    public synchronized void unregisterMBean() throws JMException {
+        if (objectName != null) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            objectName = null;
+        }
+    }
+
+    // commits one JFR event with the current counters if a recording has the event enabled
+    public void emitEvent() {
+        CollectionMetricsEvent event = new CollectionMetricsEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        MetricsSnapshot snapshot = snapshot();
+        event.name = name;
+        event.operations = snapshot.totalOperations();
+        event.growthEvents = snapshot.growthEvents();
+        event.bytesCopied = snapshot.bytesCopied();
+        event.elementsCompared = snapshot.elementsCompared();
+        event.peakSize = snapshot.peakSize();
+        event.peakCapacity = snapshot.peakCapacity();
+        event.commit();
+    }
+
+    // emits an event at the period the recording configures for collections.CollectionMetrics (1 s by default)
+    public synchronized void enablePeriodicEvents() {
+        if (periodicHook == null) {
+            periodicHook = this::emitEvent;
+            FlightRecorder.addPeriodicEvent(CollectionMetricsEvent.class, periodicHook);
+        }
+    }
+
+    public synchronized void disablePeriodicEvents() {
+        if (periodicHook != null) {
+            FlightRecorder.removePeriodicEvent(periodicHook);
+            periodicHook = null;
+        }
+    }
+
+    private final class MXBeanView implements CollectionMetricsMXBean {
+        private long count(Operation operation) {
+            return operations[operation.ordinal()].sum();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getAdds() {
+            return count(Operation.ADD);
+        }
+
+        @Override
+        public long getGets() {
+            return count(Operation.GET);
+        }
+
+        @Override
+        public long getSets() {
+            return count(Operation.SET);
+        }
+
+        @Override
+        public long getRemoves() {
+            return count(Operation.REMOVE);
+        }
+
+        @Override
+        public long getSearches() {
+            return count(Operation.SEARCH);
+        }
+
+        @Override
+        public long getSorts() {
+            return count(Operation.SORT);
+        }
+
+        @Override
+        public long getIterations() {
+            return count(Operation.ITERATE);
+        }
+
+        @Override
+        public long getClears() {
+            return count(Operation.CLEAR);
+        }
+
+        @Override
+        public long getGrowthEvents() {
+            return growthEvents.sum();
+        }
+
+        @Override
+        public long getBytesCopied() {
+            return bytesCopied.sum();
+        }
+
+        @Override
+        public long getElementsCompared() {
+            return elementsCompared.sum();
+        }
+
+        @Override
+        public long getPeakSize() {
+            return peakSize.get();
+        }
+
+        @Override
+        public long getPeakCapacity() {
+            return peakCapacity.get();
+        }
+
+        @Override
+        public void reset() {
+            CollectionMetrics.this.reset();
+        }
+    }
+}
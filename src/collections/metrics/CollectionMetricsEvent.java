@@ -0,0 +1,39 @@
+package collections.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+@Name("collections.CollectionMetrics")
+@Label("Collection Metrics")
+@Category("Collections")
+@Description("Counters of an instrumented collection")
+@Period("1 s")
+@StackTrace(false)
+class CollectionMetricsEvent extends jdk.jfr.Event {
+    @Label("Name")
+    String name;
+
+    @Label("Operations")
+    long operations;
+
+    @Label("Growth Events")
+    long growthEvents;
+
+    @Label("Bytes Copied")
+    @DataAmount
+    long bytesCopied;
+
+    @Label("Elements Compared")
+    long elementsCompared;
+
+    @Label("Peak Size")
+    long peakSize;
+
+    @Label("Peak Capacity")
+    long peakCapacity;
+}
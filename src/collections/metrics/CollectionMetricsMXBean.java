@@ -0,0 +1,20 @@
+package collections.metrics;
+
+// JMX view of a CollectionMetrics, registered with CollectionMetrics.registerMBean
+public interface CollectionMetricsMXBean {
+    String getName();
+    long getAdds();
+    long getGets();
+    long getSets();
+    long getRemoves();
+    long getSearches();
+    long getSorts();
+    long getIterations();
+    long getClears();
+    long getGrowthEvents();
+    long getBytesCopied();
+    long getElementsCompared();
+    long getPeakSize();
+    long getPeakCapacity();
+    void reset();
+}
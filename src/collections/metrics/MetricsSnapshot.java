@@ -0,0 +1,77 @@
+package collections.metrics;
+
+import java.util.Arrays;
+
+// point-in-time copy of a CollectionMetrics; counters are read one after another, so a snapshot taken
+// while the collection is in use can be a few operations apart between fields
+public final class MetricsSnapshot {
+    private final String name;
+    private final long[] operations;
+    private final long growthEvents;
+    private final long bytesCopied;
+    private final long elementsCompared;
+    private final long peakSize;
+    private final long peakCapacity;
+
+    MetricsSnapshot(String name, long[] operations, long growthEvents, long bytesCopied,
+                    long elementsCompared, long peakSize, long peakCapacity) {
+        this.name = name;
+        this.operations = operations;
+        this.growthEvents = growthEvents;
+        this.bytesCopied = bytesCopied;
+        this.elementsCompared = elementsCompared;
+        this.peakSize = peakSize;
+        this.peakCapacity = peakCapacity;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long operations(Operation operation) {
+        return operations[operation.ordinal()];
+    }
+
+    public long totalOperations() {
+        return Arrays.stream(operations).sum();
+    }
+
+    public long growthEvents() {
+        return growthEvents;
+    }
+
+    public long bytesCopied() {
+        return bytesCopied;
+    }
+
+    public long elementsCompared() {
+        return elementsCompared;
+    }
+
+    public long peakSize() {
+        return peakSize;
+    }
+
+    public long peakCapacity() {
+        return peakCapacity;
+    }
+
+    // fraction of the largest backing store that was ever in use; 1.0 for collections without spare capacity
+    public double peakOccupancy() {
+        return peakCapacity == 0 ? 1.0 : (double) peakSize / peakCapacity;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(name).append('{');
+        for (Operation operation : Operation.values()) {
+            builder.append(operation.name().toLowerCase()).append('=').append(operations(operation)).append(", ");
+        }
+        return builder.append("growthEvents=").append(growthEvents)
+                .append(", bytesCopied=").append(bytesCopied)
+                .append(", elementsCompared=").append(elementsCompared)
+                .append(", peakSize=").append(peakSize)
+                .append(", peakCapacity=").append(peakCapacity)
+                .append('}').toString();
+    }
+}
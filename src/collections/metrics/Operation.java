@@ -0,0 +1,12 @@
+package collections.metrics;
+
+public enum Operation {
+    ADD,
+    GET,
+    SET,
+    REMOVE,
+    SEARCH,
+    SORT,
+    ITERATE,
+    CLEAR
+}
@@ -0,0 +1,248 @@
+package collections.queue;
+
+import core.Collection;
+import core.Iterator;
+import core.OrderedCollection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// ring buffer over a power-of-two array: logical index i lives at (head + i) & mask
+public class CustomArrayDeque<T> implements OrderedCollection<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private Object[] elements;
+    private int head;
+    private int size;
+
+    public CustomArrayDeque(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CustomArrayDeque(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        this.elements = new Object[capacityFor(initialCapacity)];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    private static int capacityFor(int requested){
+        if(requested > MAX_CAPACITY){
+            throw new IllegalArgumentException("capacity cannot exceed " + MAX_CAPACITY);
+        }
+        return Math.max(2, Integer.highestOneBit(Math.max(requested, 1) - 1) << 1);
+    }
+
+    private int mask(){
+        return elements.length - 1;
+    }
+
+    private void ensureCapacity(int required){
+        if(required <= elements.length){
+            return;
+        }
+        Object[] newElements = new Object[capacityFor(required)];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, newElements, 0, firstPart);
+        System.arraycopy(elements, 0, newElements, firstPart, size - firstPart);
+        elements = newElements;
+        head = 0;
+    }
+
+    @Override
+    public void addFirst(T element) {
+        if(element == null){
+            throw new IllegalArgumentException("cannot add null element");
+        }
+        ensureCapacity(size + 1);
+        head = (head - 1) & mask();
+        elements[head] = element;
+        size++;
+    }
+
+    @Override
+    public void addLast(T element) {
+        if(element == null){
+            throw new IllegalArgumentException("cannot add null element");
+        }
+        ensureCapacity(size + 1);
+        elements[(head + size) & mask()] = element;
+        size++;
+    }
+
+    public void add(T element) {
+        addLast(element);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<T> pollFirst() {
+        if(size == 0){
+            return Optional.empty();
+        }
+        T element = (T) elements[head];
+        elements[head] = null;
+        head = (head + 1) & mask();
+        size--;
+        return Optional.of(element);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<T> pollLast() {
+        if(size == 0){
+            return Optional.empty();
+        }
+        int last = (head + size - 1) & mask();
+        T element = (T) elements[last];
+        elements[last] = null;
+        size--;
+        return Optional.of(element);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<T> getFirst() {
+        return size == 0 ? Optional.empty() : Optional.of((T) elements[head]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<T> getLast() {
+        return size == 0 ? Optional.empty() : Optional.of((T) elements[(head + size - 1) & mask()]);
+    }
+
+    public Optional<T> get(int index) {
+        return Optional.of(elementAt(index));
+    }
+
+    @SuppressWarnings("unchecked")
+    public T elementAt(int index) {
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("index out of bounds for CustomArrayDeque of size: " + size);
+        }
+        return (T) elements[(head + index) & mask()];
+    }
+
+    // moves up to destination.length elements from the front into destination[0..drained) with at most two copies
+    public int drainTo(T[] destination) {
+        int drained = Math.min(destination.length, size);
+        int firstPart = Math.min(drained, elements.length - head);
+        System.arraycopy(elements, head, destination, 0, firstPart);
+        System.arraycopy(elements, 0, destination, firstPart, drained - firstPart);
+        Arrays.fill(elements, head, head + firstPart, null);
+        Arrays.fill(elements, 0, drained - firstPart, null);
+        head = (head + drained) & mask();
+        size -= drained;
+        return drained;
+    }
+
+    public T[] toArray(T[] destination) {
+        T[] result = destination.length >= size ? destination : Arrays.copyOf(destination, size);
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, result, 0, firstPart);
+        System.arraycopy(elements, 0, result, firstPart, size - firstPart);
+        return result;
+    }
+
+    private void removeAt(int index){
+        int mask = mask();
+        for(int i = index; i < size - 1; i++){
+            elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+        }
+        elements[(head + size - 1) & mask] = null;
+        size--;
+    }
+
+    // takes exactly collection.size() elements, so adding a deque to itself terminates
+    @Override
+    public void addAll(Collection<T> collection) {
+        int remaining = collection.size();
+        ensureCapacity(size + remaining);
+        Iterator<T> iterator = collection.iterator();
+        while(remaining-- > 0 && iterator.hasNext()){
+            addLast(iterator.nextElement());
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if(element == null){
+            throw new IllegalArgumentException("cannot find null element");
+        }
+        int mask = mask();
+        for(int i = 0; i < size; i++){
+            if(element.equals(elements[(head + i) & mask])){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        int firstPart = Math.min(size, elements.length - head);
+        Arrays.fill(elements, head, head + firstPart, null);
+        Arrays.fill(elements, 0, size - firstPart, null);
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        int mask = mask();
+        for(int i = 0; i < size; i++){
+            action.accept((T) elements[(head + i) & mask]);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = 0;
+            private int lastReturned = -1;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Optional<T> next() {
+                return Optional.of(nextElement());
+            }
+
+            @Override
+            public T nextElement() {
+                if(!hasNext()){
+                    throw new NoSuchElementException("no next element");
+                }
+                lastReturned = index;
+                return elementAt(index++);
+            }
+
+            @Override
+            public void remove() {
+                if(lastReturned < 0){
+                    throw new IllegalStateException("Cannot remove before first next() call");
+                }
+                removeAt(lastReturned);
+                index = lastReturned;
+                lastReturned = -1;
+            }
+        };
+    }
+}
@@ -0,0 +1,214 @@
+package collections.queue;
+
+import core.Collection;
+import core.Iterator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+// unbounded lock-free multi-producer/multi-consumer queue (Michael & Scott): head points at a dummy
+// node, producers CAS new nodes onto tail.next, consumers CAS head forward and claim the item
+public class CustomConcurrentLinkedQueue<T> implements Collection<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+    private static final VarHandle ITEM;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(CustomConcurrentLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(CustomConcurrentLinkedQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            ITEM = lookup.findVarHandle(Node.class, "item", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final class Node {
+        volatile Object item;
+        volatile Node next;
+
+        Node(Object item){
+            this.item = item;
+        }
+    }
+
+    private volatile Node head;
+    private volatile Node tail;
+
+    public CustomConcurrentLinkedQueue(){
+        Node dummy = new Node(null);
+        this.head = dummy;
+        this.tail = dummy;
+    }
+
+    public boolean offer(T element){
+        if(element == null){
+            throw new IllegalArgumentException("cannot add null element");
+        }
+        Node node = new Node(element);
+        while(true){
+            Node last = tail;
+            Node next = last.next;
+            if(last != tail){
+                continue;
+            }
+            if(next == null){
+                if(NEXT.compareAndSet(last, null, node)){
+                    TAIL.compareAndSet(this, last, node);
+                    return true;
+                }
+            }else{
+                // tail is lagging behind a completed append; help move it forward
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<T> poll(){
+        while(true){
+            Node first = head;
+            Node last = tail;
+            Node next = first.next;
+            if(first != head){
+                continue;
+            }
+            if(next == null){
+                return Optional.empty();
+            }
+            if(first == last){
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+            if(HEAD.compareAndSet(this, first, next)){
+                // next becomes the new dummy; an iterator may already have removed its item
+                Object item = ITEM.getAndSet(next, null);
+                if(item != null){
+                    return Optional.of((T) item);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<T> peek(){
+        for(Node node = head.next; node != null; node = node.next){
+            Object item = node.item;
+            if(item != null){
+                return Optional.of((T) item);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void addAll(Collection<T> collection) {
+        Iterator<T> iterator = collection.iterator();
+        while(iterator.hasNext()){
+            offer(iterator.nextElement());
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if(element == null){
+            throw new IllegalArgumentException("cannot find null element");
+        }
+        for(Node node = head.next; node != null; node = node.next){
+            if(element.equals(node.item)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // O(n) and only a snapshot under concurrent updates
+    @Override
+    public int size() {
+        int count = 0;
+        for(Node node = head.next; node != null; node = node.next){
+            if(node.item != null){
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !peek().isPresent();
+    }
+
+    @Override
+    public void clear() {
+        while(poll().isPresent()){
+        }
+    }
+
+    // weakly consistent: never throws on concurrent modification, and sees elements that were
+    // present at some point during the traversal
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node nextNode;
+            private Object nextItem;
+            private Node lastReturned;
+            private Object lastItem;
+
+            {
+                advance(head);
+            }
+
+            // reads each item once so a concurrent poll cannot hand out a null between check and use
+            private void advance(Node from){
+                for(Node node = from.next; node != null; node = node.next){
+                    Object item = node.item;
+                    if(item != null){
+                        nextNode = node;
+                        nextItem = item;
+                        return;
+                    }
+                }
+                nextNode = null;
+                nextItem = null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public Optional<T> next() {
+                return Optional.of(nextElement());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T nextElement() {
+                if(!hasNext()){
+                    throw new NoSuchElementException("no next element");
+                }
+                lastReturned = nextNode;
+                lastItem = nextItem;
+                advance(nextNode);
+                return (T) lastItem;
+            }
+
+            @Override
+            public void remove() {
+                if(lastReturned == null){
+                    throw new IllegalStateException("Cannot remove before first next() call");
+                }
+                // logical removal; the emptied node is unlinked when it reaches the head
+                ITEM.compareAndSet(lastReturned, lastItem, null);
+                lastReturned = null;
+            }
+        };
+    }
+}
@@ -0,0 +1,219 @@
+package collections.queue;
+
+import core.Collection;
+import core.Iterator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+// the index fields live in separate superclasses wrapped in 64 bytes of padding each, because the JVM
+// lays out superclass fields first; that keeps producers and the consumer off each other's cache line
+abstract class MpscPadHead {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class MpscProducerIndex extends MpscPadHead {
+    volatile long producerIndex;
+}
+
+abstract class MpscPadMiddle extends MpscProducerIndex {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class MpscConsumerIndex extends MpscPadMiddle {
+    volatile long consumerIndex;
+}
+
+abstract class MpscPadTail extends MpscConsumerIndex {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
+
+// bounded array queue for many producers (or exactly one, see singleProducer) and a single consumer;
+// poll, peek and clear must only be called from the consumer thread
+public class CustomMpscArrayQueue<T> extends MpscPadTail implements Collection<T> {
+    private static final VarHandle PRODUCER_INDEX;
+    private static final VarHandle CONSUMER_INDEX;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(MpscProducerIndex.class, "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(MpscConsumerIndex.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] buffer;
+    private final int mask;
+    private final boolean singleProducer;
+
+    public CustomMpscArrayQueue(int capacity){
+        this(capacity, false);
+    }
+
+    // with singleProducer the producer claims slots with a plain ordered store instead of a CAS
+    public CustomMpscArrayQueue(int capacity, boolean singleProducer){
+        if(capacity < 1 || capacity > 1 << 30){
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        int slots = Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[Math.max(1, slots)];
+        this.mask = buffer.length - 1;
+        this.singleProducer = singleProducer;
+    }
+
+    public int capacity(){
+        return buffer.length;
+    }
+
+    // returns false instead of blocking when the queue is full
+    public boolean offer(T element){
+        if(element == null){
+            throw new IllegalArgumentException("cannot add null element");
+        }
+        long index;
+        if(singleProducer){
+            index = producerIndex;
+            if(index - consumerIndex >= buffer.length){
+                return false;
+            }
+            SLOT.setRelease(buffer, (int) index & mask, element);
+            PRODUCER_INDEX.setRelease(this, index + 1);
+            return true;
+        }
+
+        do{
+            index = producerIndex;
+            if(index - consumerIndex >= buffer.length){
+                return false;
+            }
+        }while(!PRODUCER_INDEX.compareAndSet(this, index, index + 1));
+        SLOT.setRelease(buffer, (int) index & mask, element);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<T> poll(){
+        long index = consumerIndex;
+        int slot = (int) index & mask;
+        Object element = SLOT.getAcquire(buffer, slot);
+        if(element == null){
+            if(index == producerIndex){
+                return Optional.empty();
+            }
+            // a producer has claimed the slot but not yet published into it
+            do{
+                Thread.onSpinWait();
+                element = SLOT.getAcquire(buffer, slot);
+            }while(element == null);
+        }
+        SLOT.setRelease(buffer, slot, null);
+        CONSUMER_INDEX.setRelease(this, index + 1);
+        return Optional.of((T) element);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<T> peek(){
+        long index = consumerIndex;
+        int slot = (int) index & mask;
+        Object element = SLOT.getAcquire(buffer, slot);
+        while(element == null && index != producerIndex){
+            Thread.onSpinWait();
+            element = SLOT.getAcquire(buffer, slot);
+        }
+        return Optional.ofNullable((T) element);
+    }
+
+    @Override
+    public void addAll(Collection<T> collection) {
+        Iterator<T> iterator = collection.iterator();
+        while(iterator.hasNext()){
+            if(!offer(iterator.nextElement())){
+                throw new IllegalStateException("queue is full");
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if(element == null){
+            throw new IllegalArgumentException("cannot find null element");
+        }
+        for(long i = consumerIndex, end = producerIndex; i < end; i++){
+            if(element.equals(SLOT.getAcquire(buffer, (int) i & mask))){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        // read the consumer index first so the difference can never go negative
+        long consumer = consumerIndex;
+        long producer = producerIndex;
+        return (int) Math.min(Math.max(producer - consumer, 0), buffer.length);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex == producerIndex;
+    }
+
+    @Override
+    public void clear() {
+        while(poll().isPresent()){
+        }
+    }
+
+    // weakly consistent snapshot of the slots between the two indices; removal is not supported
+    // because it would break the single-consumer slot protocol
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private long index = consumerIndex;
+            private final long end = producerIndex;
+            private Object pending = advance();
+
+            private Object advance(){
+                while(index < end){
+                    Object element = SLOT.getAcquire(buffer, (int) index++ & mask);
+                    if(element != null){
+                        return element;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return pending != null;
+            }
+
+            @Override
+            public Optional<T> next() {
+                return Optional.of(nextElement());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T nextElement() {
+                if(!hasNext()){
+                    throw new NoSuchElementException("no next element");
+                }
+                Object element = pending;
+                pending = advance();
+                return (T) element;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove is not supported by CustomMpscArrayQueue iterators");
+            }
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package collections.snapshot;
+
+import collections.list.RecordCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class Codecs {
+    private Codecs() {}
+
+    public static final ElementCodec<Integer> INT = new ElementCodec<Integer>() {
+        @Override
+        public int sizeOf(Integer element) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer element, ByteBuffer target) {
+            target.putInt(element);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer source) {
+            return source.getInt();
+        }
+    };
+
+    public static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        @Override
+        public int sizeOf(Long element) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long element, ByteBuffer target) {
+            target.putLong(element);
+        }
+
+        @Override
+        public Long decode(ByteBuffer source) {
+            return source.getLong();
+        }
+    };
+
+    public static final ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        @Override
+        public int sizeOf(Double element) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(Double element, ByteBuffer target) {
+            target.putDouble(element);
+        }
+
+        @Override
+        public Double decode(ByteBuffer source) {
+            return source.getDouble();
+        }
+    };
+
+    // UTF-8, with unpaired surrogates written as '?' like String.getBytes; sizeOf counts the same bytes
+    // without encoding, so encode is the only place a string is turned into bytes
+    public static final ElementCodec<String> STRING = new ElementCodec<String>() {
+        @Override
+        public int sizeOf(String element) {
+            return utf8Length(element);
+        }
+
+        @Override
+        public void encode(String element, ByteBuffer target) {
+            target.put(element.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decode(ByteBuffer source) {
+            byte[] bytes = new byte[source.remaining()];
+            source.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    // adapts a fixed-width RecordCodec so OffHeapArrayList and MappedFileList layouts can be snapshotted too
+    public static <T> ElementCodec<T> fixed(RecordCodec<T> codec) {
+        return new ElementCodec<T>() {
+            @Override
+            public int sizeOf(T element) {
+                return codec.recordSize();
+            }
+
+            @Override
+            public void encode(T element, ByteBuffer target) {
+                codec.encode(element, target, target.position());
+                target.position(target.position() + codec.recordSize());
+            }
+
+            @Override
+            public T decode(ByteBuffer source) {
+                T element = codec.decode(source, source.position());
+                source.position(source.position() + codec.recordSize());
+                return element;
+            }
+        };
+    }
+
+    // an unpaired surrogate is replaced by the single byte '?', matching getBytes(UTF_8)
+    private static int utf8Length(String element) {
+        int length = 0;
+        for (int i = 0; i < element.length(); i++) {
+            char c = element.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < element.length() && Character.isLowSurrogate(element.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,11 @@
+package collections.snapshot;
+
+import java.nio.ByteBuffer;
+
+// variable-length element encoding for snapshots. encode must write exactly sizeOf(element) bytes at
+// the buffer's position; decode is handed a buffer whose remaining bytes are exactly one element
+public interface ElementCodec<T> {
+    int sizeOf(T element);
+    void encode(T element, ByteBuffer target);
+    T decode(ByteBuffer source);
+}
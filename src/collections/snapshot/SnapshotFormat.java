@@ -0,0 +1,19 @@
+package collections.snapshot;
+
+// layout shared by SnapshotWriter and SnapshotReader, big-endian throughout:
+//   int magic, short version, long element count, then per element an int byte length and the encoded bytes
+final class SnapshotFormat {
+    static final int MAGIC = 0x43435350;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Long.BYTES;
+    static final int LENGTH_BYTES = Integer.BYTES;
+    static final int DEFAULT_BUFFER_BYTES = 1 << 16;
+
+    private SnapshotFormat() {}
+
+    static void checkBufferSize(int bufferSize) {
+        if (bufferSize < HEADER_BYTES) {
+            throw new IllegalArgumentException("buffer size must be at least " + HEADER_BYTES + " bytes");
+        }
+    }
+}
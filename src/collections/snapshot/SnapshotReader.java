@@ -0,0 +1,136 @@
+package collections.snapshot;
+
+import collections.list.CustomArrayList;
+import collections.list.CustomLinkedList;
+import collections.stack.CustomStack;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.function.Consumer;
+
+// reads one snapshot from a channel through a reusable direct buffer. The element count comes from the
+// header, so the read* methods size their target up front, but only up to MAX_PRESIZE: the count is
+// untrusted input, and a corrupt header must not allocate before any element has been read.
+// The reader never closes the channel
+public class SnapshotReader<T> {
+    private static final int MAX_PRESIZE = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private final ElementCodec<T> codec;
+    private ByteBuffer buffer;
+    private long remaining = -1;
+
+    public SnapshotReader(ReadableByteChannel channel, ElementCodec<T> codec) {
+        this(channel, codec, SnapshotFormat.DEFAULT_BUFFER_BYTES);
+    }
+
+    public SnapshotReader(ReadableByteChannel channel, ElementCodec<T> codec, int bufferSize) {
+        if (channel == null || codec == null) {
+            throw new IllegalArgumentException("channel and codec cannot be null");
+        }
+        SnapshotFormat.checkBufferSize(bufferSize);
+        this.channel = channel;
+        this.codec = codec;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.buffer.limit(0);
+    }
+
+    // element count from the header; reads the header on first call
+    public long count() throws IOException {
+        if (remaining < 0) {
+            readHeader();
+        }
+        return remaining;
+    }
+
+    private void readHeader() throws IOException {
+        fill(SnapshotFormat.HEADER_BYTES);
+        int magic = buffer.getInt();
+        if (magic != SnapshotFormat.MAGIC) {
+            throw new IOException("not a collection snapshot, magic was 0x" + Integer.toHexString(magic));
+        }
+        short version = buffer.getShort();
+        if (version != SnapshotFormat.VERSION) {
+            throw new IOException("unsupported snapshot version " + version);
+        }
+        long count = buffer.getLong();
+        if (count < 0) {
+            throw new IOException("corrupt snapshot, negative element count " + count);
+        }
+        remaining = count;
+    }
+
+    // passes every element to action in file order
+    public void readInto(Consumer<? super T> action) throws IOException {
+        count();
+        while (remaining > 0) {
+            action.accept(readElement());
+            remaining--;
+        }
+    }
+
+    public CustomArrayList<T> readArrayList() throws IOException {
+        CustomArrayList<T> list = new CustomArrayList<>(presize());
+        readInto(list::add);
+        return list;
+    }
+
+    public CustomLinkedList<T> readLinkedList() throws IOException {
+        CustomLinkedList<T> list = new CustomLinkedList<>();
+        readInto(list::add);
+        return list;
+    }
+
+    public CustomStack<T> readStack() throws IOException {
+        CustomStack<T> stack = new CustomStack<>(presize());
+        readInto(stack::push);
+        return stack;
+    }
+
+    // larger snapshots start at MAX_PRESIZE and grow as elements actually arrive
+    private int presize() throws IOException {
+        long count = count();
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IOException("snapshot holds " + count + " elements, too many for an in-memory collection");
+        }
+        return (int) Math.min(count, MAX_PRESIZE);
+    }
+
+    private T readElement() throws IOException {
+        fill(SnapshotFormat.LENGTH_BYTES);
+        int length = buffer.getInt();
+        if (length < 0) {
+            throw new IOException("corrupt snapshot, negative element length " + length);
+        }
+        fill(length);
+        int limit = buffer.limit();
+        int end = buffer.position() + length;
+        buffer.limit(end);
+        T element = codec.decode(buffer);
+        buffer.limit(limit);
+        buffer.position(end);
+        return element;
+    }
+
+    // makes at least bytes readable between position and limit, growing the buffer for oversized elements
+    private void fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        if (buffer.capacity() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(bytes, buffer.capacity() * 2));
+            larger.put(buffer);
+            buffer = larger;
+        } else {
+            buffer.compact();
+        }
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("snapshot ended " + (bytes - buffer.position()) + " bytes early");
+            }
+        }
+        buffer.flip();
+    }
+}
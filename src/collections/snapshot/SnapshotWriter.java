@@ -0,0 +1,106 @@
+package collections.snapshot;
+
+import collections.stack.CustomStack;
+import core.Collection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Consumer;
+
+// streams collections to a channel through one reusable direct buffer; the buffer only grows when a
+// single encoded element does not fit in it, so memory use does not depend on the collection size.
+// The writer does not own the channel and never closes it
+public class SnapshotWriter<T> {
+    private final WritableByteChannel channel;
+    private final ElementCodec<T> codec;
+    private ByteBuffer buffer;
+
+    public SnapshotWriter(WritableByteChannel channel, ElementCodec<T> codec) {
+        this(channel, codec, SnapshotFormat.DEFAULT_BUFFER_BYTES);
+    }
+
+    public SnapshotWriter(WritableByteChannel channel, ElementCodec<T> codec, int bufferSize) {
+        if (channel == null || codec == null) {
+            throw new IllegalArgumentException("channel and codec cannot be null");
+        }
+        SnapshotFormat.checkBufferSize(bufferSize);
+        this.channel = channel;
+        this.codec = codec;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    // stacks are written bottom to top so that pushing the elements in file order restores them.
+    // The collection must not change while it is written: the header count is taken from size() before
+    // the elements are walked, and a walk that produces a different number of elements is rejected
+    // with IllegalStateException instead of leaving a snapshot whose header disagrees with its body
+    public void write(Collection<T> collection) throws IOException {
+        long count = collection.size();
+        long[] written = {0};
+        writeHeader(count);
+        Consumer<T> append = element -> {
+            if (written[0] == count) {
+                throw new IllegalStateException("collection produced more than the " + count + " elements its size() reported");
+            }
+            try {
+                writeElement(element);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            written[0]++;
+        };
+        try {
+            if (collection instanceof CustomStack) {
+                ((CustomStack<T>) collection).forEachBottomUp(append);
+            } else {
+                collection.forEach(append);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (written[0] != count) {
+            throw new IllegalStateException("collection produced " + written[0] + " elements, its size() reported " + count);
+        }
+        flush();
+    }
+
+    private void writeHeader(long count) throws IOException {
+        buffer.clear();
+        buffer.putInt(SnapshotFormat.MAGIC);
+        buffer.putShort(SnapshotFormat.VERSION);
+        buffer.putLong(count);
+    }
+
+    private void writeElement(T element) throws IOException {
+        int length = codec.sizeOf(element);
+        if (length < 0) {
+            throw new IllegalStateException("codec reported a negative size: " + length);
+        }
+        ensureRoom(SnapshotFormat.LENGTH_BYTES + length);
+        buffer.putInt(length);
+        int start = buffer.position();
+        codec.encode(element, buffer);
+        if (buffer.position() - start != length) {
+            throw new IllegalStateException("codec wrote " + (buffer.position() - start) + " bytes, sizeOf reported " + length);
+        }
+    }
+
+    private void ensureRoom(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        flush();
+        if (buffer.capacity() < bytes) {
+            buffer = ByteBuffer.allocateDirect(Math.max(bytes, buffer.capacity() * 2));
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,179 @@
+package collections.stack;
+
+import core.Collection;
+import core.Iterator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// lock-free Treiber stack: push and pop CAS the head. When that CAS loses a race, the thread backs off
+// into a small elimination arena where a concurrent push and pop can hand an element over directly
+public class ConcurrentCustomStack<T> implements Collection<T> {
+    private static final VarHandle HEAD;
+    private static final int ARENA_SIZE = Math.min(8, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+    private static final int ELIMINATION_SPINS = 64;
+
+    static {
+        try {
+            HEAD = MethodHandles.lookup().findVarHandle(ConcurrentCustomStack.class, "head", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final class Node {
+        final Object data;
+        Node next;
+
+        Node(Object data){
+            this.data = data;
+        }
+    }
+
+    private volatile Node head;
+    // each slot holds a pushing thread's node while it waits for a popper to take it
+    private final AtomicReferenceArray<Node> arena = new AtomicReferenceArray<>(ARENA_SIZE);
+
+    public void push(T element){
+        if(element == null){
+            throw new IllegalArgumentException("Cannot push null element");
+        }
+        Node node = new Node(element);
+        while(true){
+            Node top = head;
+            node.next = top;
+            if(HEAD.compareAndSet(this, top, node)){
+                return;
+            }
+            if(eliminatePush(node)){
+                return;
+            }
+        }
+    }
+
+    private boolean eliminatePush(Node node){
+        int slot = ThreadLocalRandom.current().nextInt(ARENA_SIZE);
+        if(!arena.compareAndSet(slot, null, node)){
+            return false;
+        }
+        for(int spin = 0; spin < ELIMINATION_SPINS; spin++){
+            if(arena.get(slot) != node){
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        // nobody came; if withdrawing fails a popper took the node at the last moment
+        return !arena.compareAndSet(slot, node, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<T> pop(){
+        while(true){
+            Node top = head;
+            if(top == null){
+                return Optional.empty();
+            }
+            if(HEAD.compareAndSet(this, top, top.next)){
+                return Optional.of((T) top.data);
+            }
+            Node eliminated = eliminatePop();
+            if(eliminated != null){
+                return Optional.of((T) eliminated.data);
+            }
+        }
+    }
+
+    private Node eliminatePop(){
+        int slot = ThreadLocalRandom.current().nextInt(ARENA_SIZE);
+        Node offered = arena.get(slot);
+        if(offered != null && arena.compareAndSet(slot, offered, null)){
+            return offered;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<T> peek(){
+        Node top = head;
+        return top == null ? Optional.empty() : Optional.of((T) top.data);
+    }
+
+    @Override
+    public void addAll(Collection<T> collection) {
+        Iterator<T> iterator = collection.iterator();
+        while(iterator.hasNext()){
+            push(iterator.nextElement());
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("cannot find null element");
+        }
+        for(Node node = head; node != null; node = node.next){
+            if(element.equals(node.data)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // O(n) and only a snapshot under concurrent updates
+    @Override
+    public int size() {
+        int count = 0;
+        for(Node node = head; node != null; node = node.next){
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head == null;
+    }
+
+    @Override
+    public void clear() {
+        head = null;
+    }
+
+    // iterates the stack as it was when iterator() was called, top to bottom
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public Optional<T> next() {
+                return Optional.of(nextElement());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T nextElement() {
+                if(!hasNext()){
+                    throw new NoSuchElementException("no next element");
+                }
+                Object data = current.data;
+                current = current.next;
+                return (T) data;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove is not supported by ConcurrentCustomStack iterators");
+            }
+        };
+    }
+}
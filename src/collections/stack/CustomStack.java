@@ -1,72 +1,220 @@
 package collections.stack;
 
-import collections.list.CustomArrayList;
+import collections.metrics.CollectionMetrics;
+import collections.metrics.Operation;
 import core.Collection;
 import core.Iterator;
 
 
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public class CustomStack<T> implements Collection<T> {
-    private final CustomArrayList<T> store = new CustomArrayList<>();
+    private static final int DEFAULT_CAPACITY = 10;
+    private final int initialCapacity;
+    private final boolean shrinkOnDrain;
+    private Object[] elements;
+    // index one past the top of the stack, i.e. the number of elements
+    private int top;
+    // opt-in instrumentation, see setMetrics
+    private CollectionMetrics metrics;
+
+    public CustomStack(){
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    public CustomStack(int initialCapacity){
+        this(initialCapacity, false);
+    }
+
+    // with shrinkOnDrain the backing array is halved whenever occupancy falls below a quarter,
+    // but never below the initial capacity
+    public CustomStack(int initialCapacity, boolean shrinkOnDrain){
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        this.initialCapacity = initialCapacity;
+        this.shrinkOnDrain = shrinkOnDrain;
+        this.elements = new Object[initialCapacity];
+        this.top = 0;
+    }
+
     public void push(T element){
-        store.add(element);
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot push null element");
+        }
+        ensureCapacity(top + 1);
+        elements[top++] = element;
+        if(metrics != null){
+            metrics.recordOperation(Operation.ADD);
+            metrics.recordOccupancy(top, elements.length);
+        }
+    }
+
+    // null detaches; a stack without metrics only pays a null check per operation.
+    // push and pop count as ADD and REMOVE, peek as GET
+    public void setMetrics(CollectionMetrics metrics){
+        this.metrics = metrics;
+        if(metrics != null){
+            metrics.recordOccupancy(top, elements.length);
+        }
     }
 
+    public Optional<CollectionMetrics> metrics(){
+        return Optional.ofNullable(metrics);
+    }
+
+    public void pushAll(T[] source){
+        for (T element : source) {
+            if (element == null) {
+                throw new IllegalArgumentException("Cannot push null element");
+            }
+        }
+        ensureCapacity(top + source.length);
+        System.arraycopy(source, 0, elements, top, source.length);
+        top += source.length;
+        if(metrics != null){
+            metrics.recordOperations(Operation.ADD, source.length);
+            metrics.recordOccupancy(top, elements.length);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
     public Optional<T> pop(){
-        if(store.size() <= 0){
+        if(top == 0){
             return Optional.empty();
         }
-        Optional<T> item = store.get(store.size()-1);
-        if(item.isPresent()){
-            store.remove(item.get());
-            return item;
+        T item = (T) elements[--top];
+        elements[top] = null;
+        if(metrics != null) metrics.recordOperation(Operation.REMOVE);
+        shrinkIfSparse();
+        return Optional.of(item);
+    }
+
+    // pops up to count elements into destination[0..popped) and returns how many were popped;
+    // the block keeps stack order, so destination[popped - 1] is the element that was on top
+    public int popN(int count, T[] destination){
+        if (count < 0) {
+            throw new IllegalArgumentException("count cannot be negative");
+        }
+        int popped = Math.min(count, top);
+        if (popped > destination.length) {
+            throw new IndexOutOfBoundsException("destination too small for " + popped + " elements");
         }
-        return Optional.empty();
+        top -= popped;
+        System.arraycopy(elements, top, destination, 0, popped);
+        Arrays.fill(elements, top, top + popped, null);
+        if(metrics != null) metrics.recordOperations(Operation.REMOVE, popped);
+        shrinkIfSparse();
+        return popped;
     }
 
+    @SuppressWarnings("unchecked")
     public Optional<T> peek(){
-        if(store.size() <= 0){
+        if(top == 0){
             return Optional.empty();
         }
-        return Optional.ofNullable(
-                store.get(store.size()-1).isPresent() ? store.get(store.size()-1).get() : null
-        );
+        if(metrics != null) metrics.recordOperation(Operation.GET);
+        return Optional.of((T) elements[top - 1]);
+    }
+
+    private void ensureCapacity(int required){
+        if(required > elements.length){
+            int newCapacity = Math.max(required, elements.length == 0 ? DEFAULT_CAPACITY : elements.length * 2);
+            if(metrics != null) metrics.recordGrowth(elements.length, newCapacity, top);
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    // halves until the quarter rule holds, so a popN that drains most of the stack shrinks in one copy
+    private void shrinkIfSparse(){
+        if(!shrinkOnDrain){
+            return;
+        }
+        int capacity = elements.length;
+        while(capacity > initialCapacity && top < capacity / 4){
+            capacity = Math.max(initialCapacity, capacity / 2);
+        }
+        if(capacity < elements.length){
+            elements = Arrays.copyOf(elements, capacity);
+            if(metrics != null) metrics.recordCopy(top);
+        }
+    }
+
+    public int capacity(){
+        return elements.length;
     }
 
     @Override
     public void addAll(Collection<T> collection) {
+        ensureCapacity(top + collection.size());
         Iterator<T> iterator = collection.iterator();
         while(iterator.hasNext()){
-            this.store.add(iterator.next().get());
+            push(iterator.nextElement());
         }
     }
 
     @Override
     public boolean contains(T element) {
-        return store.contains(element);
+        if (element == null) {
+            throw new IllegalArgumentException("cannot find null element");
+        }
+        if(metrics != null) metrics.recordOperation(Operation.SEARCH);
+        for(int i = top - 1; i >= 0; i--){
+            if(element.equals(elements[i])){
+                if(metrics != null) metrics.recordComparisons(top - i);
+                return true;
+            }
+        }
+        if(metrics != null) metrics.recordComparisons(top);
+        return false;
     }
 
     @Override
     public int size() {
-        return store.size();
+        return top;
     }
 
     @Override
     public boolean isEmpty() {
-        return store.isEmpty();
+        return top == 0;
     }
 
     @Override
     public void clear() {
-        store.clear();
+        Arrays.fill(elements, 0, top, null);
+        top = 0;
+        if(metrics != null) metrics.recordOperation(Operation.CLEAR);
+        if(shrinkOnDrain && elements.length > initialCapacity){
+            elements = new Object[initialCapacity];
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        if(metrics != null) metrics.recordOperation(Operation.ITERATE);
+        for(int i = top - 1; i >= 0; i--){
+            action.accept((T) elements[i]);
+        }
+    }
+
+    // push order, so replaying the elements into push() rebuilds the same stack
+    @SuppressWarnings("unchecked")
+    public void forEachBottomUp(Consumer<? super T> action) {
+        if(metrics != null) metrics.recordOperation(Operation.ITERATE);
+        for(int i = 0; i < top; i++){
+            action.accept((T) elements[i]);
+        }
     }
 
     @Override
     public Iterator<T> iterator() {
+        if(metrics != null) metrics.recordOperation(Operation.ITERATE);
         return new Iterator<T>() {
-            private int index = size() - 1;
+            private int index = top - 1;
             @Override
             public boolean hasNext() {
                 return index >= 0;
@@ -74,10 +222,24 @@ public class CustomStack<T> implements Collection<T> {
 
             @Override
             public Optional<T> next() {
+                return Optional.of(nextElement());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T nextElement() {
                 if(!hasNext()){
                     throw new NoSuchElementException("no next element");
                 }
-                return store.get(index--);
+                return (T) elements[index--];
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void forEachRemaining(Consumer<? super T> action) {
+                while(index >= 0){
+                    action.accept((T) elements[index--]);
+                }
             }
 
             @Override
@@ -4,4 +4,7 @@ import java.util.function.Predicate;
 
 public interface Filterable<T> {
     Collection<T> filter(Predicate<T> predicate);
+
+    // lazy counterpart of filter, see FilteredView
+    Collection<T> filterView(Predicate<T> predicate);
 }
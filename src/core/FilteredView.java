@@ -0,0 +1,138 @@
+package core;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+// lazy, read-only result of Filterable.filterView. Nothing is copied: iteration tests the predicate as
+// it walks the source, contains tests the predicate before searching, and isEmpty stops at the first
+// match. The view follows later changes to the source. The count is cached against the source's
+// version counter and recomputed once the source changes; sources without one recount every time
+public final class FilteredView<T> implements Collection<T> {
+    private final Collection<T> source;
+    private final Predicate<? super T> predicate;
+    private final IntSupplier version;
+    private int cachedCount = -1;
+    private int cachedVersion;
+
+    // version must change whenever an element is added, removed or replaced; null disables the count cache
+    public FilteredView(Collection<T> source, Predicate<? super T> predicate, IntSupplier version) {
+        if (source == null || predicate == null) {
+            throw new IllegalArgumentException("source and predicate cannot be null");
+        }
+        this.source = source;
+        this.predicate = predicate;
+        this.version = version;
+    }
+
+    private boolean cacheValid() {
+        return cachedCount >= 0 && version != null && cachedVersion == version.getAsInt();
+    }
+
+    private void cache(int count, int atVersion) {
+        if (version != null) {
+            cachedCount = count;
+            cachedVersion = atVersion;
+        }
+    }
+
+    @Override
+    public int size() {
+        if (cacheValid()) {
+            return cachedCount;
+        }
+        int atVersion = version == null ? 0 : version.getAsInt();
+        int count = 0;
+        Iterator<T> iterator = source.iterator();
+        while (iterator.hasNext()) {
+            if (predicate.test(iterator.nextElement())) {
+                count++;
+            }
+        }
+        cache(count, atVersion);
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (cacheValid()) {
+            return cachedCount == 0;
+        }
+        return !iterator().hasNext();
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("cannot find null element");
+        }
+        return predicate.test(element) && source.contains(element);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        source.forEach(element -> {
+            if (predicate.test(element)) {
+                action.accept(element);
+            }
+        });
+    }
+
+    // an iteration that runs to the end also fills the count cache
+    @Override
+    public Iterator<T> iterator() {
+        int atVersion = version == null ? 0 : version.getAsInt();
+        Iterator<T> elements = source.iterator();
+        return new Iterator<T>() {
+            private T pending;
+            private int returned;
+
+            @Override
+            public boolean hasNext() {
+                while (pending == null && elements.hasNext()) {
+                    T candidate = elements.nextElement();
+                    if (predicate.test(candidate)) {
+                        pending = candidate;
+                    }
+                }
+                if (pending == null && version != null && version.getAsInt() == atVersion) {
+                    cache(returned, atVersion);
+                }
+                return pending != null;
+            }
+
+            @Override
+            public Optional<T> next() {
+                return Optional.of(nextElement());
+            }
+
+            @Override
+            public T nextElement() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("no next element");
+                }
+                T element = pending;
+                pending = null;
+                returned++;
+                return element;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("filtered views are read-only");
+            }
+        };
+    }
+
+    @Override
+    public void addAll(Collection<T> collection) {
+        throw new UnsupportedOperationException("filtered views are read-only");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("filtered views are read-only");
+    }
+}
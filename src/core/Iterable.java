@@ -1,5 +1,15 @@
 package core;
 
+import java.util.function.Consumer;
+
 public interface Iterable<T> {
     Iterator<T> iterator();
+
+    default void forEach(Consumer<? super T> action) {
+        iterator().forEachRemaining(action);
+    }
+
+    default Stream<T> stream() {
+        return Pipeline.of(this);
+    }
 }
@@ -1,9 +1,21 @@
 package core;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface Iterator<T> {
     boolean hasNext();
     Optional<T> next();
     void remove();
+
+    // raw cursor: returns the element itself instead of wrapping it in an Optional
+    default T nextElement() {
+        return next().orElse(null);
+    }
+
+    default void forEachRemaining(Consumer<? super T> action) {
+        while(hasNext()){
+            action.accept(nextElement());
+        }
+    }
 }
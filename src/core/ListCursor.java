@@ -0,0 +1,14 @@
+package core;
+
+import java.util.Optional;
+
+// bidirectional cursor that sits between two elements; set and remove act on the element
+// last returned by next or previous, insert places an element just before the cursor
+public interface ListCursor<T> extends Iterator<T> {
+    boolean hasPrevious();
+    Optional<T> previous();
+    T previousElement();
+    int nextIndex();
+    void set(T element);
+    void insert(T element);
+}
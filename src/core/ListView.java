@@ -0,0 +1,10 @@
+package core;
+
+// fixed-size window onto a range of a list that reads and writes the list's own storage. Elements can
+// be replaced and the range sorted in place, but the view cannot add or remove; once the backing list
+// is structurally modified other than through the view, every view operation throws ConcurrentModificationException
+public interface ListView<T> extends List<T>, Collection<T>, Sortable<T>, Filterable<T> {
+    T elementAt(int index);
+    boolean set(int index, T element);
+    ListView<T> subList(int fromIndex, int toIndex);
+}
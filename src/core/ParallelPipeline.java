@@ -0,0 +1,133 @@
+package core;
+
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+class ParallelPipeline<T> implements ParallelStream<T> {
+    private static final int MIN_LEAF_SIZE = 1 << 10;
+    private static final int LEAVES_PER_THREAD = 4;
+
+    // asked for a fresh splitter by every terminal operation, since running one consumes the splitter
+    private final Splittable<?> source;
+    private final ForkJoinPool pool;
+    // fuses every stage so far: turns a consumer of this stage's output into a consumer of source elements
+    private final Function<Consumer<? super T>, Consumer<Object>> stages;
+
+    private ParallelPipeline(Splittable<?> source, ForkJoinPool pool, Function<Consumer<? super T>, Consumer<Object>> stages) {
+        this.source = source;
+        this.pool = pool;
+        this.stages = stages;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ParallelStream<T> of(Splittable<T> source, ForkJoinPool pool) {
+        return new ParallelPipeline<T>(source, pool, downstream -> (Consumer<Object>) downstream);
+    }
+
+    @Override
+    public <R> ParallelStream<R> map(Function<? super T, ? extends R> mapper) {
+        return new ParallelPipeline<R>(source, pool,
+                downstream -> stages.apply(element -> downstream.accept(mapper.apply(element))));
+    }
+
+    @Override
+    public ParallelStream<T> filter(Predicate<? super T> predicate) {
+        return new ParallelPipeline<T>(source, pool, downstream -> stages.apply(element -> {
+            if (predicate.test(element)) {
+                downstream.accept(element);
+            }
+        }));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        Object[] result = collect(
+                () -> new Object[]{identity},
+                (holder, element) -> holder[0] = accumulator.apply((T) holder[0], element),
+                (left, right) -> left[0] = accumulator.apply((T) left[0], (T) right[0]));
+        return (T) result[0];
+    }
+
+    // each leaf records whether it saw an element, so a null element is accumulated rather than
+    // taken for an empty partial result; a null result still comes back as empty
+    @Override
+    public Optional<T> reduce(BinaryOperator<T> accumulator) {
+        Partial<T> result = collect(
+                Partial::new,
+                (partial, element) -> partial.add(element, accumulator),
+                (left, right) -> {
+                    if (right.found) {
+                        left.add(right.value, accumulator);
+                    }
+                });
+        return Optional.ofNullable(result.value);
+    }
+
+    private static final class Partial<E> {
+        E value;
+        boolean found;
+
+        void add(E element, BinaryOperator<E> accumulator) {
+            value = found ? accumulator.apply(value, element) : element;
+            found = true;
+        }
+    }
+
+    @Override
+    public <C> C collect(Supplier<C> supplier, BiConsumer<C, ? super T> accumulator, BiConsumer<C, C> combiner) {
+        Splitter<?> splitter = source.splitter();
+        int leafSize = Math.max(MIN_LEAF_SIZE, splitter.size() / (pool.getParallelism() * LEAVES_PER_THREAD));
+        return pool.invoke(new CollectTask<>(splitter, leafSize, supplier, accumulator, combiner));
+    }
+
+    @Override
+    public long count() {
+        long[] total = collect(() -> new long[1], (count, element) -> count[0]++, (left, right) -> left[0] += right[0]);
+        return total[0];
+    }
+
+    private class CollectTask<C> extends RecursiveTask<C> {
+        private static final long serialVersionUID = 1L;
+
+        private final Splitter<?> splitter;
+        private final int leafSize;
+        private final Supplier<C> supplier;
+        private final BiConsumer<C, ? super T> accumulator;
+        private final BiConsumer<C, C> combiner;
+
+        CollectTask(Splitter<?> splitter, int leafSize, Supplier<C> supplier,
+                    BiConsumer<C, ? super T> accumulator, BiConsumer<C, C> combiner) {
+            this.splitter = splitter;
+            this.leafSize = leafSize;
+            this.supplier = supplier;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected C compute() {
+            if (splitter.size() > leafSize) {
+                Splitter<?> prefix = splitter.trySplit();
+                if (prefix != null) {
+                    CollectTask<C> left = new CollectTask<>(prefix, leafSize, supplier, accumulator, combiner);
+                    left.fork();
+                    C right = new CollectTask<>(splitter, leafSize, supplier, accumulator, combiner).compute();
+                    C merged = left.join();
+                    combiner.accept(merged, right);
+                    return merged;
+                }
+            }
+            C container = supplier.get();
+            splitter.forEachRemaining(stages.apply(element -> accumulator.accept(container, element)));
+            return container;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package core;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// fork-join counterpart of Stream; each task accumulates its own range and results are merged
+// left to right, so associative operations give the same result as a sequential pass
+public interface ParallelStream<T> {
+    <R> ParallelStream<R> map(Function<? super T, ? extends R> mapper);
+    ParallelStream<T> filter(Predicate<? super T> predicate);
+
+    T reduce(T identity, BinaryOperator<T> accumulator);
+    Optional<T> reduce(BinaryOperator<T> accumulator);
+    <C> C collect(Supplier<C> supplier, BiConsumer<C, ? super T> accumulator, BiConsumer<C, C> combiner);
+    long count();
+}
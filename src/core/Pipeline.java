@@ -0,0 +1,249 @@
+package core;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+class Pipeline<T> implements Stream<T> {
+
+    // a stage of the fused pass; cancelled() lets short-circuiting stages stop the source early
+    interface Sink<T> extends Consumer<T> {
+        default boolean cancelled() {
+            return false;
+        }
+    }
+
+    private abstract static class ChainedSink<IN, OUT> implements Sink<IN> {
+        final Sink<? super OUT> downstream;
+
+        ChainedSink(Sink<? super OUT> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public boolean cancelled() {
+            return downstream.cancelled();
+        }
+    }
+
+    private final Iterable<?> source;
+    private final Pipeline<?> upstream;
+    // turns the sink consuming this stage's output into a sink consuming upstream's output
+    private final Function<Sink<? super T>, Sink<?>> stage;
+
+    private Pipeline(Iterable<?> source, Pipeline<?> upstream, Function<Sink<? super T>, Sink<?>> stage) {
+        this.source = source;
+        this.upstream = upstream;
+        this.stage = stage;
+    }
+
+    static <T> Stream<T> of(Iterable<T> source) {
+        return new Pipeline<T>(source, null, null);
+    }
+
+    private <R> Pipeline<R> chain(Function<Sink<? super R>, Sink<? super T>> next) {
+        return new Pipeline<R>(source, this, next::apply);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Sink<Object> wrap(Sink<? super T> sink) {
+        if (upstream == null) {
+            return (Sink<Object>) sink;
+        }
+        return ((Pipeline) upstream).wrap(stage.apply(sink));
+    }
+
+    private void evaluate(Sink<? super T> terminal) {
+        Sink<Object> head = wrap(terminal);
+        Iterator<?> iterator = source.iterator();
+        while (!head.cancelled() && iterator.hasNext()) {
+            head.accept(iterator.nextElement());
+        }
+    }
+
+    @Override
+    public <R> Stream<R> map(Function<? super T, ? extends R> mapper) {
+        return chain(downstream -> new ChainedSink<T, R>(downstream) {
+            @Override
+            public void accept(T element) {
+                this.downstream.accept(mapper.apply(element));
+            }
+        });
+    }
+
+    @Override
+    public Stream<T> filter(Predicate<? super T> predicate) {
+        return chain(downstream -> new ChainedSink<T, T>(downstream) {
+            @Override
+            public void accept(T element) {
+                if (predicate.test(element)) {
+                    this.downstream.accept(element);
+                }
+            }
+        });
+    }
+
+    @Override
+    public <R> Stream<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        return chain(downstream -> new ChainedSink<T, R>(downstream) {
+            @Override
+            public void accept(T element) {
+                Iterator<? extends R> inner = mapper.apply(element).iterator();
+                while (!this.downstream.cancelled() && inner.hasNext()) {
+                    this.downstream.accept(inner.nextElement());
+                }
+            }
+        });
+    }
+
+    @Override
+    public Stream<T> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative");
+        }
+        return chain(downstream -> new ChainedSink<T, T>(downstream) {
+            private long passed = 0;
+
+            @Override
+            public void accept(T element) {
+                if (passed < maxSize) {
+                    passed++;
+                    this.downstream.accept(element);
+                }
+            }
+
+            @Override
+            public boolean cancelled() {
+                return passed >= maxSize || this.downstream.cancelled();
+            }
+        });
+    }
+
+    @Override
+    public Stream<T> skip(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n cannot be negative");
+        }
+        return chain(downstream -> new ChainedSink<T, T>(downstream) {
+            private long skipped = 0;
+
+            @Override
+            public void accept(T element) {
+                if (skipped < n) {
+                    skipped++;
+                } else {
+                    this.downstream.accept(element);
+                }
+            }
+        });
+    }
+
+    @Override
+    public Stream<T> distinct() {
+        return chain(downstream -> new ChainedSink<T, T>(downstream) {
+            private final Set<T> seen = new HashSet<>();
+
+            @Override
+            public void accept(T element) {
+                if (seen.add(element)) {
+                    this.downstream.accept(element);
+                }
+            }
+        });
+    }
+
+    @Override
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        Object[] result = {identity};
+        evaluate(element -> result[0] = accumulator.apply(resultOf(result), element));
+        return resultOf(result);
+    }
+
+    // found is tracked separately from the value, so a null element from map is accumulated rather than
+    // mistaken for "nothing yet"; a null result still comes back as empty
+    @Override
+    public Optional<T> reduce(BinaryOperator<T> accumulator) {
+        Object[] result = {null};
+        boolean[] found = {false};
+        evaluate(element -> {
+            if (found[0]) {
+                result[0] = accumulator.apply(resultOf(result), element);
+            } else {
+                result[0] = element;
+                found[0] = true;
+            }
+        });
+        return Optional.ofNullable(resultOf(result));
+    }
+
+    @SuppressWarnings("unchecked")
+    private T resultOf(Object[] holder) {
+        return (T) holder[0];
+    }
+
+    @Override
+    public <C> C collect(Supplier<C> supplier, BiConsumer<C, ? super T> accumulator) {
+        C container = supplier.get();
+        evaluate(element -> accumulator.accept(container, element));
+        return container;
+    }
+
+    @Override
+    public boolean anyMatch(Predicate<? super T> predicate) {
+        boolean[] found = {false};
+        evaluate(new Sink<T>() {
+            @Override
+            public void accept(T element) {
+                if (predicate.test(element)) {
+                    found[0] = true;
+                }
+            }
+
+            @Override
+            public boolean cancelled() {
+                return found[0];
+            }
+        });
+        return found[0];
+    }
+
+    // stops at the first element even when it is null, which comes back as empty
+    @Override
+    public Optional<T> findFirst() {
+        Object[] first = {null};
+        boolean[] found = {false};
+        evaluate(new Sink<T>() {
+            @Override
+            public void accept(T element) {
+                if (!found[0]) {
+                    first[0] = element;
+                    found[0] = true;
+                }
+            }
+
+            @Override
+            public boolean cancelled() {
+                return found[0];
+            }
+        });
+        return Optional.ofNullable(resultOf(first));
+    }
+
+    @Override
+    public long count() {
+        long[] count = {0};
+        evaluate(element -> count[0]++);
+        return count[0];
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        evaluate(action::accept);
+    }
+}
@@ -0,0 +1,15 @@
+package core;
+
+import java.util.concurrent.ForkJoinPool;
+
+public interface Splittable<T> {
+    Splitter<T> splitter();
+
+    default ParallelStream<T> parallelStream() {
+        return parallelStream(ForkJoinPool.commonPool());
+    }
+
+    default ParallelStream<T> parallelStream(ForkJoinPool pool) {
+        return ParallelPipeline.of(this, pool);
+    }
+}
@@ -0,0 +1,10 @@
+package core;
+
+import java.util.function.Consumer;
+
+public interface Splitter<T> {
+    // hands off a prefix of the remaining elements to a new Splitter, or returns null if too small to split
+    Splitter<T> trySplit();
+    int size();
+    void forEachRemaining(Consumer<? super T> action);
+}
@@ -0,0 +1,28 @@
+package core;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// lazy pipeline over an Iterable; intermediate operations only describe stages, and each
+// terminal operation runs all of them fused into a single pass over the source
+public interface Stream<T> {
+    <R> Stream<R> map(Function<? super T, ? extends R> mapper);
+    Stream<T> filter(Predicate<? super T> predicate);
+    <R> Stream<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> mapper);
+    Stream<T> limit(long maxSize);
+    Stream<T> skip(long n);
+    Stream<T> distinct();
+
+    T reduce(T identity, BinaryOperator<T> accumulator);
+    Optional<T> reduce(BinaryOperator<T> accumulator);
+    <C> C collect(Supplier<C> supplier, BiConsumer<C, ? super T> accumulator);
+    boolean anyMatch(Predicate<? super T> predicate);
+    Optional<T> findFirst();
+    long count();
+    void forEach(Consumer<? super T> action);
+}
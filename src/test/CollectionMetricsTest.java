@@ -0,0 +1,147 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import collections.list.CustomArrayList;
+import collections.list.CustomLinkedList;
+import collections.metrics.CollectionMetrics;
+import collections.metrics.MetricsSnapshot;
+import collections.metrics.Operation;
+import collections.stack.CustomStack;
+
+public class CollectionMetricsTest {
+
+    @Test
+    void testArrayListCountsGrowthCopiesAndComparisons() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        CollectionMetrics metrics = new CollectionMetrics("array-list");
+        list.setMetrics(metrics);
+        for (int i = 0; i < 25; i++) {
+            list.add(i);
+        }
+        list.indexOf(4);
+        list.contains(100);
+        list.elementAt(3);
+        list.remove(0);
+        list.sort(Comparator.naturalOrder());
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(25, snapshot.operations(Operation.ADD), "Every add should be counted");
+        assertEquals(2, snapshot.growthEvents(), "Capacity 10 should double twice to hold 25 elements");
+        assertEquals(3, snapshot.operations(Operation.SEARCH), "indexOf, contains and remove should each count a search");
+        assertEquals(5 + 25 + 1, snapshot.elementsCompared(), "Scans should count the elements they compared");
+        assertEquals(1, snapshot.operations(Operation.GET), "elementAt should count as a get");
+        assertEquals(1, snapshot.operations(Operation.REMOVE), "remove should be counted once");
+        assertEquals(1, snapshot.operations(Operation.SORT), "sort should be counted");
+        assertEquals(25, snapshot.peakSize(), "Peak size should be the largest size reached");
+        assertEquals(40, snapshot.peakCapacity(), "Peak capacity should be the largest backing array");
+        assertTrue(snapshot.bytesCopied() > 0, "Growth and removal should copy bytes");
+    }
+
+    @Test
+    void testLinkedListAndStack() {
+        CollectionMetrics linkedMetrics = new CollectionMetrics("linked-list");
+        CustomLinkedList<String> linked = new CustomLinkedList<>();
+        linked.setMetrics(linkedMetrics);
+        linked.add("a");
+        linked.add("b");
+        linked.addFirst("c");
+        linked.contains("b");
+        linked.remove("zzz");
+        MetricsSnapshot linkedSnapshot = linkedMetrics.snapshot();
+        assertEquals(3, linkedSnapshot.operations(Operation.ADD), "add and addFirst should each count once");
+        assertEquals(2, linkedSnapshot.operations(Operation.SEARCH), "contains and remove should count searches");
+        assertEquals(0, linkedSnapshot.operations(Operation.REMOVE), "A remove that finds nothing should not count a removal");
+        assertEquals(3 + 3, linkedSnapshot.elementsCompared(), "Linked scans should count compared nodes");
+        assertEquals(0, linkedSnapshot.growthEvents(), "Linked lists never grow a backing store");
+
+        CollectionMetrics stackMetrics = new CollectionMetrics("stack");
+        CustomStack<Integer> stack = new CustomStack<>(2);
+        stack.setMetrics(stackMetrics);
+        stack.pushAll(new Integer[] {1, 2, 3});
+        stack.push(4);
+        stack.pop();
+        stack.peek();
+        stack.contains(1);
+        MetricsSnapshot stackSnapshot = stackMetrics.snapshot();
+        assertEquals(4, stackSnapshot.operations(Operation.ADD), "pushAll should count each element");
+        assertEquals(1, stackSnapshot.operations(Operation.REMOVE), "pop should count as a removal");
+        assertEquals(1, stackSnapshot.operations(Operation.GET), "peek should count as a get");
+        assertEquals(3, stackSnapshot.elementsCompared(), "contains should scan from the top down");
+        assertEquals(1, stackSnapshot.growthEvents(), "pushAll should grow the stack once");
+    }
+
+    @Test
+    void testDetachAndReset() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        CollectionMetrics metrics = new CollectionMetrics("detached");
+        list.setMetrics(metrics);
+        list.add(1);
+        list.setMetrics(null);
+        list.add(2);
+        assertFalse(list.metrics().isPresent(), "Detached list should report no metrics");
+        assertEquals(1, metrics.snapshot().operations(Operation.ADD), "Operations after detaching should not be counted");
+
+        metrics.reset();
+        assertEquals(0, metrics.snapshot().totalOperations(), "reset should clear every counter");
+        assertEquals(0, metrics.snapshot().peakSize(), "reset should clear the peaks");
+    }
+
+    @Test
+    void testJmxExport() throws Exception {
+        CollectionMetrics metrics = new CollectionMetrics("jmx \"list\"");
+        CustomStack<Integer> stack = new CustomStack<>();
+        stack.setMetrics(metrics);
+        stack.push(1);
+        stack.push(2);
+
+        ObjectName name = metrics.registerMBean();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(2L, server.getAttribute(name, "Adds"), "MBean should expose the add count");
+            assertEquals(2L, server.getAttribute(name, "PeakSize"), "MBean should expose the peak size");
+            assertSame(name, metrics.registerMBean(), "Registering twice should return the same name");
+        } finally {
+            metrics.unregisterMBean();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name), "unregisterMBean should remove the MBean");
+    }
+
+    @Test
+    void testJfrEvent() throws Exception {
+        CollectionMetrics metrics = new CollectionMetrics("jfr-list");
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        list.setMetrics(metrics);
+        list.add(7);
+
+        Path file = Files.createTempFile("collection-metrics", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("collections.CollectionMetrics");
+            recording.start();
+            metrics.emitEvent();
+            recording.stop();
+            recording.dump(file);
+
+            boolean found = false;
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if ("jfr-list".equals(event.getString("name"))) {
+                    assertEquals(1, event.getLong("operations"), "Event should carry the operation count");
+                    found = true;
+                }
+            }
+            assertTrue(found, "Recording should contain the emitted event");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
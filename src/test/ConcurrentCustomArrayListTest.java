@@ -0,0 +1,110 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import collections.list.ConcurrentCustomArrayList;
+import collections.list.ConcurrentCustomArrayList.Strategy;
+import core.Iterator;
+
+public class ConcurrentCustomArrayListTest {
+
+    private void checkBasicOperations(Strategy strategy) {
+        ConcurrentCustomArrayList<String> list = ConcurrentCustomArrayList.create(strategy);
+        assertTrue(list.isEmpty(), "New list should be empty");
+        list.add("Banana");
+        list.add("Apple");
+        list.add("Cherry");
+
+        assertEquals(3, list.size(), "Size should reflect additions");
+        assertEquals("Apple", list.get(1).get(), "get should return the element at the index");
+        assertEquals(2, list.indexOf("Cherry").get(), "indexOf should find the element");
+        assertTrue(list.set(0, "Date"), "set within bounds should succeed");
+        list.remove("Apple");
+        assertFalse(list.contains("Apple"), "Removed element should be gone");
+
+        list.sort(Comparator.naturalOrder());
+        assertArrayEquals(new String[]{"Cherry", "Date"}, list.toArray(), "sort should order the elements");
+        assertEquals(1, list.filter(s -> s.startsWith("C")).size(), "filter should keep matches");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2), "get past size should throw");
+
+        Iterator<String> iterator = list.iterator();
+        list.clear();
+        assertEquals("Cherry", iterator.nextElement(), "Iterator should keep walking its snapshot");
+        assertTrue(list.isEmpty(), "List should be empty after clear");
+    }
+
+    @Test
+    void testOptimisticReadBasics() {
+        checkBasicOperations(Strategy.OPTIMISTIC_READ);
+    }
+
+    @Test
+    void testCopyOnWriteBasics() {
+        checkBasicOperations(Strategy.COPY_ON_WRITE);
+    }
+
+    // forEach walks a snapshot, so the action may write to the list without deadlocking on its own lock
+    private void checkForEachActionCanModify(Strategy strategy) {
+        ConcurrentCustomArrayList<Integer> list = ConcurrentCustomArrayList.create(strategy);
+        list.add(1);
+        list.add(2);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> list.forEach(x -> list.add(x + 10)),
+                "forEach should not block writes made by its own action");
+        assertArrayEquals(new Integer[]{1, 2, 11, 12}, list.toArray(), "forEach should visit only the elements present when it started");
+    }
+
+    @Test
+    void testOptimisticReadForEachActionCanModify() {
+        checkForEachActionCanModify(Strategy.OPTIMISTIC_READ);
+    }
+
+    @Test
+    void testCopyOnWriteForEachActionCanModify() {
+        checkForEachActionCanModify(Strategy.COPY_ON_WRITE);
+    }
+
+    private void checkConcurrentReadsSeeConsistentState(Strategy strategy) throws InterruptedException {
+        ConcurrentCustomArrayList<Integer> list = ConcurrentCustomArrayList.create(strategy);
+        AtomicBoolean failed = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 2_000; i++) {
+                list.add(i);
+            }
+        });
+        Thread[] readers = new Thread[4];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    int size = list.size();
+                    if (size > 0 && list.elementAt(size - 1) != size - 1) {
+                        failed.set(true);
+                    }
+                    if (size > 0 && !list.contains(size / 2)) {
+                        failed.set(true);
+                    }
+                }
+            });
+        }
+        writer.start();
+        for (Thread reader : readers) reader.start();
+        writer.join();
+        for (Thread reader : readers) reader.join();
+
+        assertFalse(failed.get(), "Readers should never observe a missing or misplaced element");
+        assertEquals(2_000, list.size(), "Every write should be visible at the end");
+    }
+
+    @Test
+    void testOptimisticReadConcurrent() throws InterruptedException {
+        checkConcurrentReadsSeeConsistentState(Strategy.OPTIMISTIC_READ);
+    }
+
+    @Test
+    void testCopyOnWriteConcurrent() throws InterruptedException {
+        checkConcurrentReadsSeeConsistentState(Strategy.COPY_ON_WRITE);
+    }
+}
@@ -0,0 +1,75 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+import collections.stack.ConcurrentCustomStack;
+import core.Iterator;
+
+public class ConcurrentCustomStackTest {
+    private ConcurrentCustomStack<String> stack;
+
+    @BeforeEach
+    void setUp() {
+        stack = new ConcurrentCustomStack<>();
+    }
+
+    @Test
+    void testPushPopPeek() {
+        assertFalse(stack.pop().isPresent(), "Pop on empty stack should return empty Optional");
+        stack.push("First");
+        stack.push("Second");
+
+        assertEquals("Second", stack.peek().get(), "Peek should return top element");
+        assertEquals(2, stack.size(), "Peek should not affect size");
+        assertEquals("Second", stack.pop().get(), "Pop should return top element");
+        assertEquals("First", stack.pop().get(), "Pop should return next element");
+        assertTrue(stack.isEmpty(), "Stack should be empty after popping everything");
+    }
+
+    @Test
+    void testIteratorTopToBottom() {
+        stack.push("First");
+        stack.push("Second");
+        Iterator<String> iterator = stack.iterator();
+        assertEquals("Second", iterator.nextElement(), "Iterator should start at the top");
+        assertEquals("First", iterator.nextElement(), "Iterator should end at the bottom");
+        assertFalse(iterator.hasNext(), "Iterator should be exhausted");
+    }
+
+    @Test
+    void testConcurrentPushPop() throws InterruptedException {
+        ConcurrentCustomStack<Long> shared = new ConcurrentCustomStack<>();
+        int threads = 8;
+        int perThread = 20_000;
+        AtomicLong poppedSum = new AtomicLong();
+        AtomicLong poppedCount = new AtomicLong();
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * perThread;
+            workers[t] = new Thread(() -> {
+                for (long i = 0; i < perThread; i++) {
+                    shared.push(base + i);
+                    shared.pop().ifPresent(value -> {
+                        poppedSum.addAndGet(value);
+                        poppedCount.incrementAndGet();
+                    });
+                }
+            });
+        }
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+
+        long remainingSum = 0;
+        while (!shared.isEmpty()) {
+            remainingSum += shared.pop().get();
+            poppedCount.incrementAndGet();
+        }
+        long total = (long) threads * perThread;
+        assertEquals(total, poppedCount.get(), "Every pushed element should be popped exactly once");
+        assertEquals(total * (total - 1) / 2, poppedSum.get() + remainingSum, "No element should be lost or duplicated");
+    }
+}
@@ -0,0 +1,117 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import collections.queue.CustomConcurrentLinkedQueue;
+import collections.queue.CustomMpscArrayQueue;
+import core.Iterator;
+
+public class ConcurrentQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int PER_PRODUCER = 50_000;
+
+    @Test
+    void testLinkedQueueSingleThreaded() {
+        CustomConcurrentLinkedQueue<String> queue = new CustomConcurrentLinkedQueue<>();
+        assertFalse(queue.poll().isPresent(), "poll on empty queue should return empty Optional");
+        queue.offer("A");
+        queue.offer("B");
+        queue.offer("C");
+
+        assertEquals(3, queue.size(), "Size should count offered elements");
+        assertEquals("A", queue.peek().get(), "peek should return the head");
+        assertEquals("A", queue.poll().get(), "poll should be FIFO");
+
+        Iterator<String> iterator = queue.iterator();
+        assertEquals("B", iterator.nextElement(), "Iterator should start at the head");
+        iterator.remove();
+        assertEquals("C", queue.poll().get(), "poll should skip iterator-removed elements");
+        assertTrue(queue.isEmpty(), "Queue should be empty");
+    }
+
+    @Test
+    void testLinkedQueueMultiProducerMultiConsumer() throws InterruptedException {
+        CustomConcurrentLinkedQueue<Long> queue = new CustomConcurrentLinkedQueue<>();
+        AtomicLong consumedSum = new AtomicLong();
+        AtomicLong consumedCount = new AtomicLong();
+        long total = (long) PRODUCERS * PER_PRODUCER;
+
+        Thread[] threads = new Thread[PRODUCERS * 2];
+        for (int p = 0; p < PRODUCERS; p++) {
+            long base = (long) p * PER_PRODUCER;
+            threads[p] = new Thread(() -> {
+                for (long i = 0; i < PER_PRODUCER; i++) {
+                    queue.offer(base + i);
+                }
+            });
+        }
+        for (int c = 0; c < PRODUCERS; c++) {
+            threads[PRODUCERS + c] = new Thread(() -> {
+                while (consumedCount.get() < total) {
+                    queue.poll().ifPresent(value -> {
+                        consumedSum.addAndGet(value);
+                        consumedCount.incrementAndGet();
+                    });
+                }
+            });
+        }
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+
+        assertEquals(total, consumedCount.get(), "Every element should be consumed exactly once");
+        assertEquals(total * (total - 1) / 2, consumedSum.get(), "No element should be lost or duplicated");
+    }
+
+    @Test
+    void testArrayQueueBounded() {
+        CustomMpscArrayQueue<String> queue = new CustomMpscArrayQueue<>(3, true);
+        assertEquals(4, queue.capacity(), "Capacity should round up to a power of two");
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer("x" + i), "offer should succeed while there is room");
+        }
+        assertFalse(queue.offer("overflow"), "offer should fail when full");
+        assertTrue(queue.contains("x2"), "contains should see queued elements");
+        assertEquals("x0", queue.poll().get(), "poll should be FIFO");
+        assertTrue(queue.offer("x4"), "offer should succeed after a poll frees a slot");
+        assertEquals(4, queue.size(), "Size should reflect offers and polls");
+    }
+
+    @Test
+    void testArrayQueueMultiProducer() throws InterruptedException {
+        CustomMpscArrayQueue<Long> queue = new CustomMpscArrayQueue<>(1024);
+        long total = (long) PRODUCERS * PER_PRODUCER;
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            long base = (long) p * PER_PRODUCER;
+            producers[p] = new Thread(() -> {
+                for (long i = 0; i < PER_PRODUCER; i++) {
+                    while (!queue.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            producers[p].start();
+        }
+
+        long sum = 0;
+        long[] lastPerProducer = new long[PRODUCERS];
+        Arrays.fill(lastPerProducer, -1);
+        for (long consumed = 0; consumed < total; ) {
+            Long value = queue.poll().orElse(null);
+            if (value != null) {
+                int producer = (int) (value / PER_PRODUCER);
+                assertTrue(value > lastPerProducer[producer], "Each producer's elements should stay in order");
+                lastPerProducer[producer] = value;
+                sum += value;
+                consumed++;
+            }
+        }
+        for (Thread producer : producers) producer.join();
+
+        assertEquals(total * (total - 1) / 2, sum, "No element should be lost or duplicated");
+        assertTrue(queue.isEmpty(), "Queue should be drained");
+    }
+}
@@ -0,0 +1,99 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import collections.queue.CustomArrayDeque;
+import core.Iterator;
+
+public class CustomArrayDequeTest {
+    private CustomArrayDeque<String> deque;
+
+    @BeforeEach
+    void setUp() {
+        deque = new CustomArrayDeque<>(4);
+    }
+
+    @Test
+    void testInitialState() {
+        assertTrue(deque.isEmpty(), "New deque should be empty");
+        assertFalse(deque.getFirst().isPresent(), "getFirst on empty deque should return empty Optional");
+        assertFalse(deque.pollLast().isPresent(), "pollLast on empty deque should return empty Optional");
+    }
+
+    @Test
+    void testBothEnds() {
+        deque.addLast("B");
+        deque.addFirst("A");
+        deque.addLast("C");
+
+        assertEquals("A", deque.getFirst().get(), "addFirst should put element at the front");
+        assertEquals("C", deque.getLast().get(), "addLast should put element at the back");
+        assertEquals("A", deque.pollFirst().get(), "pollFirst should remove the front");
+        assertEquals("C", deque.pollLast().get(), "pollLast should remove the back");
+        assertEquals(1, deque.size(), "Size should reflect polls");
+    }
+
+    @Test
+    void testGrowthAcrossWrap() {
+        for (int i = 0; i < 3; i++) {
+            deque.addLast("x" + i);
+        }
+        deque.pollFirst();
+        deque.pollFirst();
+        for (int i = 3; i < 40; i++) {
+            deque.addLast("x" + i);
+        }
+
+        assertEquals(38, deque.size(), "Deque should grow past its initial capacity");
+        for (int i = 0; i < deque.size(); i++) {
+            assertEquals("x" + (i + 2), deque.elementAt(i), "Random access should follow logical order");
+        }
+    }
+
+    @Test
+    void testDrainTo() {
+        for (int i = 0; i < 4; i++) {
+            deque.addLast("x" + i);
+        }
+        deque.pollFirst();
+        deque.addLast("x4");
+
+        String[] drained = new String[3];
+        assertEquals(3, deque.drainTo(drained), "drainTo should fill the destination");
+        assertArrayEquals(new String[]{"x1", "x2", "x3"}, drained, "drainTo should keep FIFO order across the wrap");
+        assertEquals("x4", deque.getFirst().get(), "Remaining element should be at the front");
+    }
+
+    @Test
+    void testIteratorRemove() {
+        deque.addLast("A");
+        deque.addLast("B");
+        deque.addLast("C");
+
+        Iterator<String> iterator = deque.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals("C", iterator.nextElement(), "Iterator should continue after removal");
+        assertEquals(2, deque.size(), "Iterator removal should shrink the deque");
+        assertFalse(deque.contains("B"), "Removed element should be gone");
+    }
+
+    @Test
+    void testAddAllToItself() {
+        deque.addLast("A");
+        deque.addLast("B");
+        deque.addLast("C");
+        deque.addAll(deque);
+        assertEquals(6, deque.size(), "Adding a deque to itself should double it once");
+        Iterator<String> iterator = deque.iterator();
+        StringBuilder order = new StringBuilder();
+        while (iterator.hasNext()) {
+            order.append(iterator.nextElement());
+        }
+        assertEquals("ABCABC", order.toString(), "Self-add should append the original elements in order");
+    }
+}
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Comparator;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Random;
 import collections.list.*;
 import core.*;
 
@@ -157,4 +159,347 @@ public class CustomArrayListTest {
         }
         assertEquals(20, list.size(), "List should dynamically resize");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParallelSort() {
+        CustomArrayList<Integer> numbers = new CustomArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            numbers.add(random.nextInt(1000));
+        }
+
+        numbers.parallelSort(Comparator.naturalOrder());
+
+        assertEquals(50_000, numbers.size(), "Sort should not change size");
+        for (int i = 1; i < numbers.size(); i++) {
+            assertTrue(numbers.get(i - 1).get() <= numbers.get(i).get(), "Elements should be in ascending order");
+        }
+    }
+
+    // Indexed Mode Tests
+    @Test
+    void testIndexedModeMatchesScan() {
+        CustomArrayList<Integer> indexed = new CustomArrayList<>();
+        CustomArrayList<Integer> plain = new CustomArrayList<>();
+        indexed.setIndexed(true);
+        Random random = new Random(3);
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(200);
+            switch (random.nextInt(4)) {
+                case 0:
+                    indexed.remove(value);
+                    plain.remove(value);
+                    break;
+                case 1:
+                    if (!plain.isEmpty()) {
+                        int position = random.nextInt(plain.size());
+                        indexed.set(position, value);
+                        plain.set(position, value);
+                    }
+                    break;
+                default:
+                    indexed.add(value);
+                    plain.add(value);
+            }
+            int probe = random.nextInt(200);
+            assertEquals(plain.indexOf(probe), indexed.indexOf(probe), "indexOf should agree with a scan");
+            assertEquals(plain.contains(probe), indexed.contains(probe), "contains should agree with a scan");
+        }
+    }
+
+    @Test
+    void testIndexedModeAfterSortAndClear() {
+        list.setIndexed(true);
+        list.add("Banana");
+        list.add("Apple");
+        list.add("Banana");
+        list.sort(Comparator.naturalOrder());
+        assertEquals(1, list.indexOf("Banana").get(), "Index should follow sort");
+
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(0, list.indexOf("Banana").get(), "Index should follow iterator removal");
+
+        list.clear();
+        assertFalse(list.contains("Banana"), "Index should be emptied by clear");
+        list.setIndexed(false);
+        assertFalse(list.isIndexed(), "Indexed mode should be switchable off");
+    }
+
+    // Capacity and Growth Policy Tests
+    @Test
+    void testZeroInitialCapacityGrows() {
+        CustomArrayList<Integer> empty = new CustomArrayList<>(0);
+        for (int i = 0; i < 50; i++) {
+            empty.add(i);
+        }
+        assertEquals(50, empty.size(), "List created with capacity 0 should still grow");
+        assertEquals(49, empty.elementAt(49), "Elements should survive growth from capacity 0");
+    }
+
+    @Test
+    void testGrowthPolicies() {
+        assertEquals(20, GrowthPolicy.doubling().newCapacity(10, 11), "Doubling should double");
+        assertEquals(15, GrowthPolicy.oneAndHalf().newCapacity(10, 11), "oneAndHalf should grow by half");
+        assertEquals(110, GrowthPolicy.fixedChunk(100).newCapacity(10, 11), "fixedChunk should add the chunk");
+        assertEquals(5096, GrowthPolicy.capped(GrowthPolicy.doubling(), 1000).newCapacity(4096, 4097),
+                "capped should limit the step to maxIncrement");
+        assertEquals(16, GrowthPolicy.capped(GrowthPolicy.doubling(), 1000).newCapacity(8, 9),
+                "capped should follow the base policy for small steps");
+        assertEquals(500, GrowthPolicy.fixedChunk(1).newCapacity(10, 500), "Policies should cover the required capacity");
+
+        CustomArrayList<Integer> chunked = new CustomArrayList<>(4);
+        chunked.setGrowthPolicy(GrowthPolicy.fixedChunk(3));
+        for (int i = 0; i < 5; i++) {
+            chunked.add(i);
+        }
+        assertEquals(7, chunked.capacity(), "List should grow by the configured chunk");
+        assertThrows(IllegalArgumentException.class, () -> chunked.setGrowthPolicy(null), "Null policy should be rejected");
+    }
+
+    @Test
+    void testEnsureCapacityAndTrimToSize() {
+        CustomArrayList<Integer> numbers = new CustomArrayList<>();
+        numbers.ensureCapacity(1000);
+        assertEquals(1000, numbers.capacity(), "ensureCapacity should presize exactly");
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(i);
+        }
+        assertEquals(1000, numbers.capacity(), "Presized list should not grow");
+        numbers.ensureCapacity(10);
+        assertEquals(1000, numbers.capacity(), "ensureCapacity should never shrink");
+
+        for (int i = 0; i < 900; i++) {
+            numbers.remove(i);
+        }
+        numbers.trimToSize();
+        assertEquals(100, numbers.capacity(), "trimToSize should drop unused slots");
+        assertEquals(900, numbers.elementAt(0), "trimToSize should keep the elements");
+    }
+
+    @Test
+    void testShrinkOnDrain() {
+        CustomArrayList<Integer> numbers = new CustomArrayList<>(16);
+        numbers.setShrinkOnDrain(true);
+        for (int i = 0; i < 1024; i++) {
+            numbers.add(i);
+        }
+        int grown = numbers.capacity();
+        for (int i = 0; i < 1000; i++) {
+            numbers.remove(i);
+        }
+        assertTrue(numbers.capacity() < grown / 8, "Draining should shrink the backing array");
+        assertTrue(numbers.capacity() >= numbers.size(), "Shrinking should keep room for the elements");
+        assertEquals(1000, numbers.elementAt(0), "Shrinking should keep the elements");
+
+        numbers.clear();
+        assertEquals(16, numbers.capacity(), "clear should fall back to the initial capacity");
+    }
+
+    @Test
+    void testShrinkOnDrainAfterRemoveRange() {
+        CustomArrayList<Integer> numbers = new CustomArrayList<>(16);
+        numbers.setShrinkOnDrain(true);
+        for (int i = 0; i < 100_000; i++) {
+            numbers.add(i);
+        }
+        numbers.removeRange(0, 99_990);
+        assertEquals(10, numbers.size(), "removeRange should leave the tail");
+        assertTrue(numbers.capacity() <= 40, "One bulk drain should shrink until occupancy is at least a quarter, was " + numbers.capacity());
+        assertTrue(numbers.capacity() >= 16, "Shrinking should stop at the initial capacity");
+        assertEquals(99_990, numbers.elementAt(0), "Shrinking should keep the elements");
+    }
+
+    // Bulk Operation Tests
+    @Test
+    void testAddAllPresizesAndCopies() {
+        CustomArrayList<Integer> source = new CustomArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            source.add(i);
+        }
+        CustomArrayList<Integer> target = new CustomArrayList<>(0);
+        target.addAll(source);
+        assertEquals(1000, target.size(), "addAll should copy every element");
+        assertEquals(1000, target.capacity(), "addAll should grow once to the combined size");
+        assertEquals(999, target.elementAt(999), "addAll should keep the order");
+
+        target.addAll(target);
+        assertEquals(2000, target.size(), "Adding a list to itself should double it");
+        assertEquals(0, target.elementAt(1000), "Self addAll should append a copy");
+
+        CustomLinkedList<Integer> linked = new CustomLinkedList<>();
+        linked.add(-1);
+        linked.add(-2);
+        target.addAll(linked);
+        assertEquals(-2, target.elementAt(2001), "addAll should accept other collections");
+    }
+
+    @Test
+    void testInsertAllAndRemoveRange() {
+        list.add("a");
+        list.add("e");
+        CustomArrayList<String> middle = new CustomArrayList<>();
+        middle.add("b");
+        middle.add("c");
+        middle.add("d");
+        list.insertAll(1, middle);
+        assertEquals("[a, b, c, d, e]", java.util.Arrays.toString(list.toArray()), "insertAll should shift the tail once");
+
+        list.insertAll(5, list);
+        assertEquals(10, list.size(), "Inserting a list into itself should use a copy");
+        assertEquals("a", list.elementAt(5), "Self insert should append the original elements");
+
+        list.removeRange(2, 8);
+        assertEquals("[a, b, d, e]", java.util.Arrays.toString(list.toArray()), "removeRange should drop the half-open range");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(3, 5), "Range past the end should throw");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insertAll(5, middle), "Insert past the end should throw");
+    }
+
+    @Test
+    void testRemoveIfAndRetainAllInOnePass() {
+        CustomArrayList<Integer> numbers = new CustomArrayList<>();
+        numbers.setIndexed(true);
+        for (int i = 0; i < 100_000; i++) {
+            numbers.add(i);
+        }
+        assertTrue(numbers.removeIf(n -> n % 3 != 0), "removeIf should report a change");
+        assertEquals(33_334, numbers.size(), "removeIf should drop every match");
+        assertEquals(3, numbers.elementAt(1), "Survivors should keep their order");
+        assertEquals(1, numbers.indexOf(3).get(), "Index should follow removeIf");
+        assertFalse(numbers.removeIf(n -> n < 0), "removeIf without matches should report no change");
+
+        CustomArrayList<Integer> keep = new CustomArrayList<>();
+        for (int i = 0; i < 1000; i += 2) {
+            keep.add(i);
+        }
+        numbers.retainAll(keep);
+        assertEquals(167, numbers.size(), "retainAll should keep multiples of 6 below 1000");
+        assertEquals(6, numbers.elementAt(1), "retainAll should keep the order");
+
+        assertThrows(IllegalStateException.class, () -> numbers.removeIf(n -> {
+            if (n == 600) {
+                throw new IllegalStateException("boom");
+            }
+            return n < 300;
+        }), "Predicate failures should propagate");
+        assertEquals(300, numbers.elementAt(0), "Elements tested before the failure should be removed");
+        assertEquals(117, numbers.size(), "Untested elements should be kept after a failure");
+        assertEquals(600, numbers.elementAt(50), "The element the predicate failed on should be kept");
+    }
+
+    @Test
+    void testBulkRemovalReleasesMemoryWithShrinkOnDrain() {
+        CustomArrayList<Integer> numbers = new CustomArrayList<>(16);
+        numbers.setShrinkOnDrain(true);
+        for (int i = 0; i < 100_000; i++) {
+            numbers.add(i);
+        }
+        int grown = numbers.capacity();
+        numbers.removeIf(n -> n % 1000 != 0);
+        assertEquals(100, numbers.size(), "removeIf should keep every thousandth element");
+        assertTrue(numbers.capacity() <= 400, "removeIf should shrink until occupancy is at least a quarter, was " + numbers.capacity());
+        assertTrue(numbers.capacity() < grown / 256, "Memory released should be in proportion to what was removed");
+        assertEquals(99_000, numbers.elementAt(99), "Shrinking should keep the survivors in order");
+
+        CustomArrayList<Integer> keep = new CustomArrayList<>();
+        keep.add(0);
+        numbers.retainAll(keep);
+        assertEquals(1, numbers.size(), "retainAll should keep only the listed element");
+        assertEquals(16, numbers.capacity(), "retainAll should shrink down to the initial capacity");
+    }
+
+    // SubList View Tests
+    @Test
+    void testSubListSharesStorage() {
+        CustomArrayList<Integer> numbers = new CustomArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            numbers.add(9 - i);
+        }
+        ListView<Integer> view = numbers.subList(2, 8);
+        assertEquals(6, view.size(), "View should cover the range");
+        assertEquals(7, view.elementAt(0), "View index 0 should be the range start");
+        assertEquals(Optional.of(3), view.indexOf(4), "indexOf should be relative to the view");
+        assertFalse(view.contains(9), "Elements outside the range should not be visible");
+
+        assertTrue(view.set(0, 100), "set inside the view should succeed");
+        assertEquals(100, numbers.elementAt(2), "set should write through to the list");
+        assertFalse(view.set(6, 1), "set past the view should fail");
+
+        view.sort(Comparator.naturalOrder());
+        assertEquals("[9, 8, 2, 3, 4, 5, 6, 100, 1, 0]", java.util.Arrays.toString(numbers.toArray()),
+                "sort should only reorder the viewed range");
+
+        ListView<Integer> nested = view.subList(1, 4);
+        assertEquals(3, nested.elementAt(0), "Nested view should offset from its parent");
+        assertEquals(3, nested.filter(n -> n > 0).size(), "filter should see only the nested range");
+        int sum = 0;
+        Iterator<Integer> iterator = nested.iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.nextElement();
+        }
+        assertEquals(3 + 4 + 5, sum, "Iteration should cover the nested range");
+        assertThrows(UnsupportedOperationException.class, () -> view.add(1), "Views should be fixed-size");
+    }
+
+    @Test
+    void testSubListDetectsStructuralModification() {
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        ListView<String> view = list.subList(0, 2);
+        ListView<String> nested = view.subList(1, 2);
+        list.set(2, "z");
+        assertEquals("b", nested.elementAt(0), "set on the list should not invalidate views");
+
+        list.add("d");
+        assertThrows(java.util.ConcurrentModificationException.class, view::size, "Views should fail after an add");
+        assertThrows(java.util.ConcurrentModificationException.class, () -> nested.get(0), "Nested views should fail too");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(2, 5), "Out of range views should be rejected");
+    }
+
+    @Test
+    void testSliceCopies() {
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        CustomArrayList<String> slice = list.slice(1, 3);
+        list.set(1, "z");
+        assertEquals("b", slice.elementAt(0), "slice should be a copy");
+        assertEquals(2, slice.size(), "slice should hold the range");
+        slice.add("d");
+        assertEquals(3, slice.size(), "slice should be growable");
+    }
+
+    // Filtered View Tests
+    @Test
+    void testFilterViewIsLazyAndLive() {
+        CustomArrayList<Integer> numbers = new CustomArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(i);
+        }
+        int[] tested = {0};
+        Collection<Integer> evens = numbers.filterView(n -> {
+            tested[0]++;
+            return n % 2 == 0;
+        });
+        assertEquals(0, tested[0], "Creating the view should not test anything");
+
+        assertFalse(evens.isEmpty(), "View should see matches");
+        assertEquals(1, tested[0], "isEmpty should stop at the first match");
+        assertFalse(evens.contains(7), "contains should reject non-matching elements");
+        assertEquals(2, tested[0], "contains should test the predicate before searching");
+
+        assertEquals(500, evens.size(), "size should count the matches");
+        int afterCount = tested[0];
+        assertEquals(500, evens.size(), "size should be stable");
+        assertEquals(afterCount, tested[0], "Second size call should use the cached count");
+
+        numbers.add(1000);
+        assertEquals(501, evens.size(), "Added elements should show up in the view");
+        numbers.set(0, 1);
+        assertEquals(500, evens.size(), "Replaced elements should invalidate the cached count");
+        assertEquals(2, evens.iterator().nextElement(), "Iteration should skip non-matching elements");
+        assertThrows(UnsupportedOperationException.class, evens::clear, "Filtered views should be read-only");
+    }
+}
@@ -0,0 +1,101 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Random;
+import collections.map.CustomHashMap;
+import core.Iterator;
+
+public class CustomHashMapTest {
+    private CustomHashMap<String, Integer> map;
+
+    @BeforeEach
+    void setUp() {
+        map = new CustomHashMap<>();
+    }
+
+    @Test
+    void testInitialState() {
+        assertTrue(map.isEmpty(), "New map should be empty");
+        assertEquals(0, map.size(), "New map size should be 0");
+        assertFalse(map.get("missing").isPresent(), "get on empty map should return empty Optional");
+    }
+
+    @Test
+    void testPutAndGet() {
+        assertFalse(map.put("one", 1).isPresent(), "First put should have no previous value");
+        assertEquals(1, map.put("one", 11).get(), "Second put should return previous value");
+        map.put("two", 2);
+
+        assertEquals(2, map.size(), "Replacing a value should not change size");
+        assertEquals(11, map.get("one").get(), "get should return the latest value");
+        assertTrue(map.containsKey("two"), "Map should contain inserted key");
+        assertEquals(-1, map.getOrDefault("three", -1), "getOrDefault should fall back for missing keys");
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, 1), "Null keys should be rejected");
+    }
+
+    @Test
+    void testRemove() {
+        map.put("one", 1);
+        map.put("two", 2);
+
+        assertEquals(1, map.remove("one").get(), "remove should return removed value");
+        assertFalse(map.remove("one").isPresent(), "Removing twice should find nothing");
+        assertFalse(map.containsKey("one"), "Removed key should be gone");
+        assertEquals(1, map.size(), "Size should decrease after removal");
+    }
+
+    @Test
+    void testMatchesJavaUtilHashMap() {
+        CustomHashMap<Integer, Integer> custom = new CustomHashMap<>(4, 0.75f);
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), custom.remove(key).orElse(null), "remove should agree");
+            } else {
+                assertEquals(expected.put(key, i), custom.put(key, i).orElse(null), "put should agree");
+            }
+        }
+
+        assertEquals(expected.size(), custom.size(), "Sizes should agree");
+        expected.forEach((key, value) -> assertEquals(value, custom.get(key).get(), "Values should agree"));
+    }
+
+    @Test
+    void testIteratorRemove() {
+        for (int i = 0; i < 1_000; i++) {
+            map.put("key" + i, i);
+        }
+
+        int visited = 0;
+        Iterator<CustomHashMap.Entry<String, Integer>> iterator = map.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.nextElement().getValue() % 2 == 0) {
+                iterator.remove();
+            }
+            visited++;
+        }
+
+        assertEquals(1_000, visited, "Iterator should visit every entry exactly once despite removals");
+        assertEquals(500, map.size(), "Even entries should be removed");
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i % 2 == 1, map.containsKey("key" + i), "Only odd keys should remain");
+        }
+    }
+
+    @Test
+    void testForEach() {
+        map.put("one", 1);
+        map.put("two", 2);
+        int[] sum = new int[1];
+        map.forEach((key, value) -> sum[0] += value);
+        assertEquals(3, sum[0], "forEach should visit every entry");
+        assertTrue(map.contains(new CustomHashMap.Entry<>("two", 2)), "contains should match key and value");
+        assertFalse(map.contains(new CustomHashMap.Entry<>("two", 3)), "contains should compare values");
+    }
+}
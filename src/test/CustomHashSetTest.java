@@ -0,0 +1,78 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import collections.map.CustomHashSet;
+import collections.list.CustomArrayList;
+import core.Iterator;
+
+public class CustomHashSetTest {
+    private CustomHashSet<String> set;
+
+    @BeforeEach
+    void setUp() {
+        set = new CustomHashSet<>();
+    }
+
+    @Test
+    void testAddAndContains() {
+        assertTrue(set.add("First"), "Adding a new element should succeed");
+        assertFalse(set.add("First"), "Adding a duplicate should fail");
+        assertEquals(1, set.size(), "Duplicates should not change size");
+        assertTrue(set.contains("First"), "Set should contain added element");
+        assertFalse(set.contains("Second"), "Set should not contain unadded element");
+    }
+
+    @Test
+    void testRemoveAndClear() {
+        set.add("First");
+        set.add("Second");
+        assertTrue(set.remove("First"), "Removing a present element should succeed");
+        assertFalse(set.remove("First"), "Removing a missing element should fail");
+        set.clear();
+        assertTrue(set.isEmpty(), "Set should be empty after clear");
+    }
+
+    @Test
+    void testMatchesJavaUtilHashSet() {
+        CustomHashSet<Integer> custom = new CustomHashSet<>(1, 0.9f);
+        HashSet<Integer> expected = new HashSet<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 50_000; i++) {
+            int element = random.nextInt(3_000);
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(element), custom.add(element), "add should agree");
+            } else {
+                assertEquals(expected.remove(element), custom.remove(element), "remove should agree");
+            }
+        }
+        assertEquals(expected.size(), custom.size(), "Sizes should agree");
+        for (int element : expected) {
+            assertTrue(custom.contains(element), "Every expected element should be present");
+        }
+    }
+
+    @Test
+    void testIteratorAndAddAll() {
+        CustomArrayList<String> source = new CustomArrayList<>();
+        source.add("a");
+        source.add("b");
+        source.add("a");
+        set.addAll(source);
+        assertEquals(2, set.size(), "addAll should skip duplicates");
+
+        Iterator<String> iterator = set.iterator();
+        int visited = 0;
+        while (iterator.hasNext()) {
+            iterator.nextElement();
+            iterator.remove();
+            visited++;
+        }
+        assertEquals(2, visited, "Iterator should visit every element");
+        assertTrue(set.isEmpty(), "Iterator removal should empty the set");
+    }
+}
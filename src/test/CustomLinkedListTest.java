@@ -0,0 +1,299 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.Random;
+import collections.list.CustomLinkedList;
+import core.Collection;
+import core.Iterator;
+import core.ListCursor;
+import core.ListView;
+
+public class CustomLinkedListTest {
+    private CustomLinkedList<String> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new CustomLinkedList<>();
+    }
+
+    // Sorting Tests
+    @Test
+    void testSort() {
+        list.add("Banana");
+        list.add("Apple");
+        list.add("Cherry");
+
+        list.sort(Comparator.naturalOrder());
+
+        Iterator<String> iterator = list.iterator();
+        assertEquals("Apple", iterator.next().get(), "First element after sorting should be Apple");
+        assertEquals("Banana", iterator.next().get(), "Second element after sorting should be Banana");
+        assertEquals("Cherry", iterator.next().get(), "Third element after sorting should be Cherry");
+        assertEquals("Apple", list.getFirst().get(), "Head should be updated after sorting");
+        assertEquals("Cherry", list.getLast().get(), "Tail should be updated after sorting");
+    }
+
+    @Test
+    void testSortIsStable() {
+        list.add("bb");
+        list.add("a1");
+        list.add("cc");
+        list.add("a2");
+        list.add("dd");
+
+        list.sort(Comparator.comparingInt(String::length).thenComparing(s -> s.charAt(0)));
+
+        Iterator<String> iterator = list.iterator();
+        assertEquals("a1", iterator.next().get(), "Equal elements should keep insertion order");
+        assertEquals("a2", iterator.next().get(), "Equal elements should keep insertion order");
+    }
+
+    @Test
+    void testSortLargeListKeepsLinksConsistent() {
+        CustomLinkedList<Integer> numbers = new CustomLinkedList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 10_001; i++) {
+            numbers.add(random.nextInt(500));
+        }
+
+        numbers.sort(Comparator.naturalOrder());
+
+        assertEquals(10_001, numbers.size(), "Sort should not change size");
+        int previous = Integer.MIN_VALUE;
+        int count = 0;
+        Iterator<Integer> iterator = numbers.iterator();
+        while (iterator.hasNext()) {
+            int current = iterator.nextElement();
+            assertTrue(previous <= current, "Elements should be in ascending order");
+            previous = current;
+            count++;
+        }
+        assertEquals(10_001, count, "Every node should still be reachable");
+        assertEquals(previous, numbers.getLast().get(), "Tail should point at the largest element");
+    }
+
+    // Positional Access Tests
+    @Test
+    void testGetByIndex() {
+        for (int i = 0; i < 100; i++) {
+            list.add("Element " + i);
+        }
+
+        assertEquals("Element 0", list.get(0).get(), "get should reach the head");
+        assertEquals("Element 99", list.get(99).get(), "get should reach the tail");
+        assertEquals("Element 57", list.get(57).get(), "get should reach the middle");
+        assertEquals("Element 58", list.get(58).get(), "get next to the previous access should be correct");
+        assertEquals("Element 3", list.get(3).get(), "get far from the previous access should be correct");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100), "get past size should throw");
+    }
+
+    @Test
+    void testGetAfterStructuralChanges() {
+        for (int i = 0; i < 10; i++) {
+            list.add("Element " + i);
+        }
+        assertEquals("Element 5", list.get(5).get(), "Initial positional read should be correct");
+
+        list.addFirst("Head");
+        assertEquals("Element 4", list.get(5).get(), "addFirst should shift later indexes");
+        list.remove("Element 0");
+        assertEquals("Element 5", list.get(5).get(), "remove should shift later indexes back");
+        assertTrue(list.set(5, "Five"), "set within bounds should succeed");
+        assertEquals("Five", list.get(5).get(), "set should replace the element");
+    }
+
+    @Test
+    void testCursor() {
+        list.add("A");
+        list.add("C");
+        list.add("D");
+
+        ListCursor<String> cursor = list.cursor(1);
+        cursor.insert("B");
+        assertEquals(2, cursor.nextIndex(), "insert should place the element before the cursor");
+        assertEquals("C", cursor.nextElement(), "Cursor should continue after the inserted element");
+        cursor.set("c");
+        assertEquals("D", cursor.nextElement(), "Cursor should move forward");
+        cursor.remove();
+        assertFalse(cursor.hasNext(), "Cursor should be at the end after removing the last element");
+        assertEquals("c", cursor.previousElement(), "Cursor should move backward");
+        cursor.remove();
+
+        assertEquals(2, list.size(), "Size should reflect cursor edits");
+        assertEquals("A", list.get(0).get(), "First element should be unchanged");
+        assertEquals("B", list.get(1).get(), "Inserted element should be in place");
+        assertEquals("B", list.getLast().get(), "Tail should be updated by cursor removals");
+    }
+
+    @Test
+    void testCursorInsertIntoEmptyList() {
+        ListCursor<String> cursor = list.cursor();
+        cursor.insert("First");
+        cursor.insert("Second");
+        assertEquals(2, list.size(), "Cursor inserts should add elements");
+        assertEquals("First", list.getFirst().get(), "Inserts should keep order");
+        assertEquals("Second", list.getLast().get(), "Inserts should keep order");
+        assertThrows(IllegalStateException.class, cursor::remove, "remove right after insert should throw");
+    }
+
+    // Bulk Operation Tests
+    @Test
+    void testBulkOperations() {
+        for (String value : new String[] {"a", "e"}) {
+            list.add(value);
+        }
+        CustomLinkedList<String> middle = new CustomLinkedList<>();
+        middle.add("b");
+        middle.add("c");
+        middle.add("d");
+        list.insertAll(1, middle);
+        list.insertAll(0, middle);
+        assertEquals("bcdabcde", join(list), "insertAll should link the elements in order");
+
+        list.addAll(list);
+        assertEquals(16, list.size(), "Adding a list to itself should terminate with twice the elements");
+
+        list.removeRange(3, 16);
+        assertEquals("bcd", join(list), "removeRange should unlink the range");
+        list.removeRange(0, 1);
+        assertEquals("cd", join(list), "removeRange at the head should move the head");
+        assertEquals("d", list.getLast().get(), "Tail should survive a head removal");
+
+        CustomLinkedList<Integer> numbers = new CustomLinkedList<>();
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(i);
+        }
+        assertTrue(numbers.removeIf(n -> n % 2 == 1), "removeIf should report a change");
+        assertEquals(5_000, numbers.size(), "removeIf should drop every match");
+        assertEquals(9_998, numbers.getLast().get(), "Tail should be relinked");
+
+        CustomLinkedList<Integer> keep = new CustomLinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            keep.add(i);
+        }
+        numbers.retainAll(keep);
+        assertEquals(50, numbers.size(), "retainAll should keep only shared elements");
+        assertEquals(98, numbers.get(49).get(), "Positional access should work after bulk removal");
+    }
+
+    private static String join(CustomLinkedList<String> values) {
+        StringBuilder builder = new StringBuilder();
+        values.forEach(builder::append);
+        return builder.toString();
+    }
+
+    // SubList View Tests
+    @Test
+    void testSubListView() {
+        CustomLinkedList<Integer> numbers = new CustomLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            numbers.add(9 - i);
+        }
+        ListView<Integer> view = numbers.subList(2, 8);
+        assertEquals(6, view.size(), "View should cover the range");
+        assertEquals(7, view.elementAt(0), "View index 0 should be the range start");
+        assertEquals(3, view.indexOf(4).get(), "indexOf should be relative to the view");
+
+        view.sort(Comparator.naturalOrder());
+        StringBuilder order = new StringBuilder();
+        numbers.forEach(n -> order.append(n).append(' '));
+        assertEquals("9 8 2 3 4 5 6 7 1 0 ", order.toString(), "sort should only reorder the viewed range");
+
+        ListView<Integer> nested = view.subList(2, 5);
+        assertTrue(nested.set(0, 40), "set through a nested view should succeed");
+        assertEquals(40, numbers.get(4).get(), "Nested set should write through to the list");
+        assertEquals(2, nested.filter(n -> n > 5).size(), "filter should see only the nested range");
+
+        numbers.sort(Comparator.naturalOrder());
+        assertThrows(java.util.ConcurrentModificationException.class, () -> view.get(0), "Relinking sort should invalidate views");
+        assertThrows(java.util.ConcurrentModificationException.class, nested::iterator, "Nested views should be invalidated too");
+        assertEquals(0, numbers.subList(3, 3).size(), "Empty views should be allowed");
+    }
+
+    // Filtered View Tests
+    @Test
+    void testFilterView() {
+        list.add("apple");
+        list.add("banana");
+        list.add("avocado");
+        Collection<String> aWords = list.filterView(s -> s.startsWith("a"));
+        StringBuilder seen = new StringBuilder();
+        Iterator<String> iterator = aWords.iterator();
+        while (iterator.hasNext()) {
+            seen.append(iterator.nextElement()).append(' ');
+        }
+        assertEquals("apple avocado ", seen.toString(), "Iteration should yield only matches");
+        assertEquals(2, aWords.size(), "size should count matches");
+
+        list.remove("apple");
+        assertEquals(1, aWords.size(), "View should follow removals");
+        assertTrue(aWords.contains("avocado"), "contains should find live matches");
+        assertFalse(aWords.contains("banana"), "contains should reject non-matches");
+        assertTrue(list.subList(1, 2).filterView(s -> s.startsWith("a")).contains("avocado"), "subList views should be filterable lazily");
+    }
+
+    // Node pool Tests
+    @Test
+    void testNodePoolReusesRemovedNodes() {
+        list.setNodePool(4);
+        for (int i = 0; i < 6; i++) {
+            list.add("item" + i);
+        }
+        list.remove("item0");
+        list.removeRange(0, 2);
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(4, list.pooledNodes(), "Removed nodes should fill the pool up to its bound");
+        assertEquals(2, list.size(), "Pooling should not change the removals");
+
+        list.addFirst("first");
+        list.addLast("last");
+        list.cursor(1).insert("middle");
+        assertEquals(1, list.pooledNodes(), "Adds should take nodes from the pool");
+        assertEquals("first", list.get(0).get(), "Reused node should hold the new element");
+        assertEquals("middle", list.get(1).get(), "Reused node should hold the new element");
+        assertEquals("last", list.getLast().get(), "Reused node should hold the new element");
+        assertEquals(5, list.size(), "Reused nodes should link like new ones");
+    }
+
+    @Test
+    void testNodePoolClearAndDisable() {
+        list.setNodePool(3);
+        for (int i = 0; i < 10; i++) {
+            list.add("item" + i);
+        }
+        list.clear();
+        assertEquals(3, list.pooledNodes(), "clear should recycle nodes only up to the pool bound");
+        list.add("again");
+        assertEquals("again", list.getFirst().get(), "List should be usable after a pooled clear");
+        assertEquals(2, list.pooledNodes(), "add should take a node from the pool");
+        list.setNodePool(1);
+        assertEquals(1, list.pooledNodes(), "Lowering the bound should drop surplus nodes");
+        list.setNodePool(0);
+        assertEquals(0, list.pooledNodes(), "Disabling the pool should drop every node");
+        list.remove("again");
+        assertEquals(0, list.pooledNodes(), "A disabled pool should not keep removed nodes");
+        assertThrows(IllegalArgumentException.class, () -> list.setNodePool(-1), "Negative pool size should throw");
+    }
+
+    @Test
+    void testNodePoolChurnKeepsOrder() {
+        list.setNodePool(16);
+        for (int i = 0; i < 8; i++) {
+            list.add("v" + i);
+        }
+        for (int i = 8; i < 1000; i++) {
+            list.add("v" + i);
+            list.removeRange(0, 1);
+        }
+        assertEquals(8, list.size(), "Queue-like churn should keep the size fixed");
+        assertEquals("v992", list.getFirst().get(), "Oldest surviving element should be first");
+        assertEquals("v999", list.getLast().get(), "Newest element should be last");
+        assertTrue(list.pooledNodes() <= 1, "Steady churn should not grow the pool beyond the removal it feeds");
+    }
+}
@@ -148,4 +148,68 @@ public class CustomStackTest {
         }
         assertTrue(stack.isEmpty(), "Stack should be empty after equal pushes and pops");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPopWithDuplicates() {
+        stack.push("A");
+        stack.push("B");
+        stack.push("A");
+
+        assertEquals("A", stack.pop().get(), "Pop should return top element");
+        assertEquals("B", stack.peek().get(), "Pop should remove the top slot, not the first equal element");
+        assertEquals(2, stack.size(), "Size should decrease after pop");
+    }
+
+    // Bulk Tests
+    @Test
+    void testPushAllAndPopN() {
+        stack.pushAll(new String[]{"First", "Second", "Third"});
+        assertEquals(3, stack.size(), "pushAll should push every element");
+        assertEquals("Third", stack.peek().get(), "Last element of pushAll should be on top");
+
+        String[] drained = new String[5];
+        assertEquals(2, stack.popN(2, drained), "popN should report popped count");
+        assertEquals("Second", drained[0], "popN should keep stack order in destination");
+        assertEquals("Third", drained[1], "Former top should be last in destination");
+        assertEquals("First", stack.peek().get(), "Remaining top should be correct");
+
+        assertEquals(1, stack.popN(5, drained), "popN should stop at stack size");
+        assertTrue(stack.isEmpty(), "Stack should be empty after draining");
+    }
+
+    @Test
+    void testPushAllRejectsNull() {
+        assertThrows(IllegalArgumentException.class, () -> stack.pushAll(new String[]{"First", null}),
+                "pushAll should reject null elements");
+        assertTrue(stack.isEmpty(), "Rejected pushAll should not modify the stack");
+    }
+
+    @Test
+    void testShrinkOnDrain() {
+        CustomStack<String> shrinking = new CustomStack<>(4, true);
+        for (int i = 0; i < 1000; i++) {
+            shrinking.push("Element " + i);
+        }
+        int peak = shrinking.capacity();
+        for (int i = 0; i < 1000; i++) {
+            shrinking.pop();
+        }
+        assertTrue(shrinking.capacity() < peak, "Drained stack should give memory back");
+        assertTrue(shrinking.capacity() >= 4, "Stack should not shrink below initial capacity");
+    }
+
+    @Test
+    void testPopNDrainShrinksToQuarterRule() {
+        CustomStack<String> shrinking = new CustomStack<>(4, true);
+        for (int i = 0; i < 1000; i++) {
+            shrinking.push("Element " + i);
+        }
+        int peak = shrinking.capacity();
+        assertEquals(990, shrinking.popN(990, new String[990]), "popN should pop the requested count");
+        assertTrue(shrinking.capacity() < peak / 2, "One large popN should shrink past half the peak");
+        assertTrue(shrinking.size() >= shrinking.capacity() / 4, "Occupancy should be at least a quarter after the drain");
+        assertEquals("Element 9", shrinking.peek().get(), "Shrinking should keep the remaining elements");
+        assertEquals(1, shrinking.popN(1, new String[1]), "popN should keep working after shrinking");
+        assertTrue(shrinking.capacity() >= 4, "Stack should not shrink below initial capacity");
+    }
+}
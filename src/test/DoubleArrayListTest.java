@@ -0,0 +1,115 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import collections.list.*;
+
+public class DoubleArrayListTest {
+    private DoubleArrayList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new DoubleArrayList();
+    }
+
+    @Test
+    void testInitialState() {
+        assertTrue(list.isEmpty(), "New list should be empty");
+        assertEquals(0, list.size(), "New list size should be 0");
+        assertThrows(IllegalArgumentException.class, () -> new DoubleArrayList(-1), "Negative capacity should throw");
+    }
+
+    @Test
+    void testAddAndGet() {
+        list.add(7.5);
+        list.add(3.25);
+        assertEquals(2, list.size(), "List size should reflect additions");
+        assertEquals(7.5, list.get(0), "First element should be correct");
+        assertEquals(3.25, list.get(1), "Second element should be correct");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2), "Reading past size should throw");
+    }
+
+    @Test
+    void testSetAndIndexOf() {
+        list.add(1.0);
+        list.add(2.0);
+        assertTrue(list.set(1, 5.0), "Set within bounds should succeed");
+        assertFalse(list.set(2, 5.0), "Set past size should fail");
+        assertEquals(1, list.indexOf(5.0), "indexOf should find updated element");
+        assertEquals(-1, list.indexOf(2.0), "indexOf should return -1 for missing element");
+    }
+
+    // indexOf uses Double.compare, not ==, so NaN finds NaN and the two zeros are distinct values
+    @Test
+    void testIndexOfNaN() {
+        list.add(1.0);
+        list.add(Double.NaN);
+        assertEquals(1, list.indexOf(Double.NaN), "NaN should be found although NaN != NaN");
+        assertTrue(list.contains(0.0 / 0.0), "Any NaN should match a stored NaN");
+        list.remove(Double.NaN);
+        assertEquals(1, list.size(), "remove should find and drop the NaN");
+    }
+
+    @Test
+    void testIndexOfSignedZero() {
+        list.add(-0.0);
+        assertEquals(0, list.indexOf(-0.0), "-0.0 should find itself");
+        assertEquals(-1, list.indexOf(0.0), "0.0 should not match -0.0 although 0.0 == -0.0");
+        list.add(0.0);
+        assertEquals(1, list.indexOf(0.0), "0.0 should find the positive zero");
+        list.remove(0.0);
+        assertEquals(-0.0, list.get(0), "remove(0.0) should leave the negative zero in place");
+        assertEquals(1, list.size(), "remove(0.0) should remove only the positive zero");
+    }
+
+    @Test
+    void testRemove() {
+        list.add(1.0);
+        list.add(2.0);
+        list.add(3.0);
+        list.remove(2.0);
+        assertEquals(2, list.size(), "Size should decrease after removal");
+        assertFalse(list.contains(2.0), "Removed element should not be in the list");
+        assertEquals(3.0, list.removeAt(1), "removeAt should return the removed element");
+    }
+
+    // Arrays.sort orders doubles by Double.compare: -0.0 before 0.0, NaN last
+    @Test
+    void testSortFilterSlice() {
+        DoubleArrayList values = DoubleArrayList.of(5.0, Double.NaN, 0.0, -0.0, -1.5);
+        values.sort();
+        assertArrayEquals(new double[]{-1.5, -0.0, 0.0, 5.0, Double.NaN}, values.toArray(), "Sort should order by Double.compare");
+        assertArrayEquals(new double[]{-1.5, 5.0}, values.filter(v -> Math.abs(v) > 1).toArray(), "Filter should keep matches");
+        assertArrayEquals(new double[]{-0.0, 0.0}, values.slice(1, 3).toArray(), "Slice should copy the range");
+    }
+
+    @Test
+    void testForEachAndClear() {
+        DoubleArrayList values = DoubleArrayList.of(0.5, 1.5, 2.0);
+        double[] sum = new double[1];
+        values.forEach(v -> sum[0] += v);
+        assertEquals(4.0, sum[0], "forEach should visit every element");
+        values.clear();
+        assertTrue(values.isEmpty(), "clear should empty the list");
+    }
+
+    @Test
+    void testListConversion() {
+        CustomArrayList<Double> boxed = DoubleArrayList.of(4.0, Double.NaN, 6.0).toList();
+        assertEquals(3, boxed.size(), "Converted list should have the same size");
+        assertTrue(boxed.get(1).get().isNaN(), "Converted list should keep order and NaN");
+        assertArrayEquals(new double[]{4.0, Double.NaN, 6.0}, DoubleArrayList.fromList(boxed).toArray(), "Round trip should keep values");
+    }
+
+    @Test
+    void testZeroCapacityGrows() {
+        DoubleArrayList empty = new DoubleArrayList(0);
+        for (int i = 0; i < 20; i++) {
+            empty.add(i / 2.0);
+        }
+        assertEquals(20, empty.size(), "List created with zero capacity should still grow");
+        assertEquals(9.5, empty.get(19), "Grown list should keep every element");
+    }
+}
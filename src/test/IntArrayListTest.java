@@ -0,0 +1,87 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import collections.list.*;
+
+public class IntArrayListTest {
+    private IntArrayList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new IntArrayList();
+    }
+
+    @Test
+    void testInitialState() {
+        assertTrue(list.isEmpty(), "New list should be empty");
+        assertEquals(0, list.size(), "New list size should be 0");
+    }
+
+    @Test
+    void testAddAndGet() {
+        list.add(7);
+        list.add(3);
+        assertEquals(2, list.size(), "List size should reflect additions");
+        assertEquals(7, list.get(0), "First element should be correct");
+        assertEquals(3, list.get(1), "Second element should be correct");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2), "Reading past size should throw");
+    }
+
+    @Test
+    void testSetAndIndexOf() {
+        list.add(1);
+        list.add(2);
+        assertTrue(list.set(1, 5), "Set within bounds should succeed");
+        assertFalse(list.set(2, 5), "Set past size should fail");
+        assertEquals(1, list.indexOf(5), "indexOf should find updated element");
+        assertEquals(-1, list.indexOf(2), "indexOf should return -1 for missing element");
+    }
+
+    @Test
+    void testRemove() {
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        list.remove(2);
+        assertEquals(2, list.size(), "Size should decrease after removal");
+        assertFalse(list.contains(2), "Removed element should not be in the list");
+        assertEquals(3, list.removeAt(1), "removeAt should return the removed element");
+    }
+
+    @Test
+    void testSortFilterSlice() {
+        IntArrayList values = IntArrayList.of(5, 1, 4, 2, 3);
+        values.sort();
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, values.toArray(), "Sort should order ascending");
+        assertArrayEquals(new int[]{2, 4}, values.filter(v -> v % 2 == 0).toArray(), "Filter should keep matches");
+        assertArrayEquals(new int[]{2, 3}, values.slice(1, 3).toArray(), "Slice should copy the range");
+    }
+
+    @Test
+    void testForEach() {
+        IntArrayList values = IntArrayList.of(1, 2, 3);
+        int[] sum = new int[1];
+        values.forEach(v -> sum[0] += v);
+        assertEquals(6, sum[0], "forEach should visit every element");
+    }
+
+    @Test
+    void testListConversion() {
+        CustomArrayList<Integer> boxed = IntArrayList.of(4, 5, 6).toList();
+        assertEquals(3, boxed.size(), "Converted list should have the same size");
+        assertEquals(5, boxed.get(1).get(), "Converted list should keep order");
+        assertArrayEquals(new int[]{4, 5, 6}, IntArrayList.fromList(boxed).toArray(), "Round trip should keep values");
+    }
+
+    @Test
+    void testZeroCapacityGrows() {
+        IntArrayList empty = new IntArrayList(0);
+        for (int i = 0; i < 20; i++) {
+            empty.add(i);
+        }
+        assertEquals(20, empty.size(), "List created with zero capacity should still grow");
+    }
+}
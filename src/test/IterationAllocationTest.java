@@ -0,0 +1,82 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import collections.list.CustomArrayList;
+import collections.list.CustomLinkedList;
+import collections.stack.CustomStack;
+import core.Collection;
+import core.Iterator;
+
+public class IterationAllocationTest {
+    private static final int SIZE = 100_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private CustomArrayList<Integer> arrayList;
+    private CustomLinkedList<Integer> linkedList;
+    private CustomStack<Integer> stack;
+    private long sum;
+
+    @BeforeEach
+    void setUp() {
+        arrayList = new CustomArrayList<>();
+        linkedList = new CustomLinkedList<>();
+        stack = new CustomStack<>();
+        for (int i = 0; i < SIZE; i++) {
+            Integer value = i;
+            arrayList.add(value);
+            linkedList.add(value);
+            stack.push(value);
+        }
+    }
+
+    private long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private double bytesPerElementForEach(Collection<Integer> collection) {
+        collection.forEach(e -> sum += e);
+        long before = allocatedBytes();
+        collection.forEach(e -> sum += e);
+        return (double) (allocatedBytes() - before) / SIZE;
+    }
+
+    private double bytesPerElementCursor(Collection<Integer> collection) {
+        long before = allocatedBytes();
+        Iterator<Integer> iterator = collection.iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.nextElement();
+        }
+        return (double) (allocatedBytes() - before) / SIZE;
+    }
+
+    @Test
+    void testForEachDoesNotAllocatePerElement() {
+        allocatedBytes();
+        assertTrue(bytesPerElementForEach(arrayList) < 1, "CustomArrayList.forEach should not allocate per element");
+        assertTrue(bytesPerElementForEach(linkedList) < 1, "CustomLinkedList.forEach should not allocate per element");
+        assertTrue(bytesPerElementForEach(stack) < 1, "CustomStack.forEach should not allocate per element");
+    }
+
+    @Test
+    void testRawCursorDoesNotAllocatePerElement() {
+        allocatedBytes();
+        assertTrue(bytesPerElementCursor(arrayList) < 1, "CustomArrayList cursor should not allocate per element");
+        assertTrue(bytesPerElementCursor(linkedList) < 1, "CustomLinkedList cursor should not allocate per element");
+        assertTrue(bytesPerElementCursor(stack) < 1, "CustomStack cursor should not allocate per element");
+    }
+
+    @Test
+    void testForEachRemainingVisitsRestInOrder() {
+        Iterator<Integer> iterator = stack.iterator();
+        assertEquals(SIZE - 1, iterator.nextElement(), "Stack cursor should start at the top");
+        long[] visited = new long[1];
+        iterator.forEachRemaining(e -> visited[0]++);
+        assertEquals(SIZE - 1, visited[0], "forEachRemaining should visit the remaining elements");
+        assertFalse(iterator.hasNext(), "Iterator should be exhausted after forEachRemaining");
+    }
+}
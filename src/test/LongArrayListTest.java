@@ -0,0 +1,105 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import collections.list.*;
+
+public class LongArrayListTest {
+    private LongArrayList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new LongArrayList();
+    }
+
+    @Test
+    void testInitialState() {
+        assertTrue(list.isEmpty(), "New list should be empty");
+        assertEquals(0, list.size(), "New list size should be 0");
+        assertThrows(IllegalArgumentException.class, () -> new LongArrayList(-1), "Negative capacity should throw");
+    }
+
+    @Test
+    void testAddAndGet() {
+        list.add(7L);
+        list.add(Long.MAX_VALUE);
+        assertEquals(2, list.size(), "List size should reflect additions");
+        assertEquals(7L, list.get(0), "First element should be correct");
+        assertEquals(Long.MAX_VALUE, list.get(1), "Values beyond int range should be kept exactly");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2), "Reading past size should throw");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1), "Negative index should throw");
+    }
+
+    @Test
+    void testSetAndIndexOf() {
+        list.add(1L);
+        list.add(2L);
+        assertTrue(list.set(1, 5L), "Set within bounds should succeed");
+        assertFalse(list.set(2, 5L), "Set past size should fail");
+        assertEquals(1, list.indexOf(5L), "indexOf should find updated element");
+        assertEquals(-1, list.indexOf(2L), "indexOf should return -1 for missing element");
+        assertEquals(-1, list.indexOf(1L + (1L << 32)), "indexOf should compare all 64 bits");
+    }
+
+    @Test
+    void testRemove() {
+        list.add(1L);
+        list.add(2L);
+        list.add(3L);
+        list.remove(2L);
+        assertEquals(2, list.size(), "Size should decrease after removal");
+        assertFalse(list.contains(2L), "Removed element should not be in the list");
+        list.remove(42L);
+        assertEquals(2, list.size(), "Removing a missing element should change nothing");
+        assertEquals(3L, list.removeAt(1), "removeAt should return the removed element");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(1), "removeAt past size should throw");
+    }
+
+    @Test
+    void testSortFilterSlice() {
+        LongArrayList values = LongArrayList.of(5L, Long.MIN_VALUE, 4L, 2L, 3L);
+        values.sort();
+        assertArrayEquals(new long[]{Long.MIN_VALUE, 2L, 3L, 4L, 5L}, values.toArray(), "Sort should order ascending");
+        assertArrayEquals(new long[]{Long.MIN_VALUE, 2L, 4L}, values.filter(v -> v % 2 == 0).toArray(), "Filter should keep matches");
+        assertArrayEquals(new long[]{2L, 3L}, values.slice(1, 3).toArray(), "Slice should copy the range");
+        assertThrows(IndexOutOfBoundsException.class, () -> values.slice(3, 1), "Inverted slice range should throw");
+    }
+
+    @Test
+    void testOfCopiesInput() {
+        long[] source = {1L, 2L};
+        LongArrayList values = LongArrayList.of(source);
+        source[0] = 9L;
+        assertEquals(1L, values.get(0), "of should copy the array it is given");
+    }
+
+    @Test
+    void testForEachAndClear() {
+        LongArrayList values = LongArrayList.of(1L, 2L, 3L);
+        long[] sum = new long[1];
+        values.forEach(v -> sum[0] += v);
+        assertEquals(6L, sum[0], "forEach should visit every element");
+        values.clear();
+        assertTrue(values.isEmpty(), "clear should empty the list");
+    }
+
+    @Test
+    void testListConversion() {
+        CustomArrayList<Long> boxed = LongArrayList.of(4L, 5L, 6L).toList();
+        assertEquals(3, boxed.size(), "Converted list should have the same size");
+        assertEquals(5L, boxed.get(1).get(), "Converted list should keep order");
+        assertArrayEquals(new long[]{4L, 5L, 6L}, LongArrayList.fromList(boxed).toArray(), "Round trip should keep values");
+    }
+
+    @Test
+    void testZeroCapacityGrows() {
+        LongArrayList empty = new LongArrayList(0);
+        for (int i = 0; i < 20; i++) {
+            empty.add(i);
+        }
+        assertEquals(20, empty.size(), "List created with zero capacity should still grow");
+        assertEquals(19L, empty.get(19), "Grown list should keep every element");
+    }
+}
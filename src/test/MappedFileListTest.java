@@ -0,0 +1,125 @@
+package test;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import collections.list.MappedFileList;
+import collections.list.RecordCodec;
+
+public class MappedFileListTest {
+    private static final RecordCodec<Long> LONG_CODEC = new RecordCodec<Long>() {
+        @Override
+        public int recordSize() {
+            return 8;
+        }
+
+        @Override
+        public void encode(Long element, ByteBuffer target, int offset) {
+            target.putLong(offset, element);
+        }
+
+        @Override
+        public Long decode(ByteBuffer source, int offset) {
+            return source.getLong(offset);
+        }
+    };
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("mapped-list", ".bin");
+        Files.delete(file);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void testAppendAndRandomGet() throws IOException {
+        try (MappedFileList<Long> list = MappedFileList.open(file, LONG_CODEC, 8)) {
+            for (long i = 0; i < 100; i++) {
+                list.add(i * i);
+            }
+            assertEquals(100, list.size(), "Size should reflect appends");
+            assertEquals(49L * 49, list.get(49).get(), "Random get should decode the record");
+            assertTrue(list.set(0, -1L), "set within bounds should succeed");
+            assertEquals(-1L, list.elementAt(0), "set should overwrite the record");
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(100), "get past size should throw");
+        }
+    }
+
+    @Test
+    void testReopenKeepsContents() throws IOException {
+        try (MappedFileList<Long> list = MappedFileList.open(file, LONG_CODEC, 8)) {
+            for (long i = 0; i < 50; i++) {
+                list.add(i);
+            }
+            list.remove(10L);
+            list.flush();
+        }
+
+        try (MappedFileList<Long> reopened = MappedFileList.open(file, LONG_CODEC)) {
+            assertEquals(49, reopened.size(), "Reopened list should keep its size");
+            assertEquals(11L, reopened.elementAt(10), "Reopened list should keep its records");
+            assertFalse(reopened.contains(10L), "Removed record should stay removed");
+            reopened.add(100L);
+            assertEquals(100L, reopened.elementAt(49), "Reopened list should accept appends");
+        }
+    }
+
+    @Test
+    void testRejectsMismatchedCodec() throws IOException {
+        MappedFileList.open(file, LONG_CODEC).close();
+        assertThrows(IOException.class, () -> MappedFileList.open(file, OffHeapArrayListTest.CODEC),
+                "Opening with a different record size should fail");
+    }
+
+    @Test
+    void testAddAllToItself() throws IOException {
+        try (MappedFileList<Long> list = MappedFileList.open(file, LONG_CODEC, 8)) {
+            for (long i = 0; i < 5; i++) {
+                list.add(i);
+            }
+            list.addAll(list);
+            assertEquals(10, list.size(), "Adding a list to itself should double it once");
+            assertEquals(0L, list.elementAt(5), "Copied records should follow in order");
+            assertEquals(4L, list.elementAt(9), "Copied records should follow in order");
+        }
+    }
+
+    @Test
+    void testRejectsCorruptHeader() throws IOException {
+        MappedFileList.open(file, LONG_CODEC).close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 31), 12);
+        }
+        assertThrows(IOException.class, () -> MappedFileList.open(file, LONG_CODEC),
+                "A segment shift above 30 should be rejected");
+
+        Files.delete(file);
+        MappedFileList.open(file, LONG_CODEC).close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, -1L), 16);
+        }
+        assertThrows(IOException.class, () -> MappedFileList.open(file, LONG_CODEC),
+                "A negative size should be rejected");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 1L << 40), 16);
+        }
+        assertThrows(IOException.class, () -> MappedFileList.open(file, LONG_CODEC),
+                "A size beyond the int range should be rejected");
+    }
+}
@@ -0,0 +1,134 @@
+package test;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Random;
+import collections.list.OffHeapArrayList;
+import collections.list.RecordCodec;
+import core.Iterator;
+
+public class OffHeapArrayListTest {
+
+    static final class Reading {
+        final long id;
+        final double value;
+
+        Reading(long id, double value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Reading && ((Reading) o).id == id && ((Reading) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value);
+        }
+    }
+
+    static final RecordCodec<Reading> CODEC = new RecordCodec<Reading>() {
+        @Override
+        public int recordSize() {
+            return 16;
+        }
+
+        @Override
+        public void encode(Reading element, ByteBuffer target, int offset) {
+            target.putLong(offset, element.id);
+            target.putDouble(offset + 8, element.value);
+        }
+
+        @Override
+        public Reading decode(ByteBuffer source, int offset) {
+            return new Reading(source.getLong(offset), source.getDouble(offset + 8));
+        }
+    };
+
+    private OffHeapArrayList<Reading> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new OffHeapArrayList<>(CODEC, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        list.close();
+    }
+
+    @Test
+    void testAddGetSetAcrossChunks() {
+        for (int i = 0; i < 10; i++) {
+            list.add(new Reading(i, i * 0.5));
+        }
+
+        assertEquals(10, list.size(), "Size should reflect additions");
+        assertEquals(new Reading(7, 3.5), list.get(7).get(), "Records should round-trip through the codec");
+        assertTrue(list.set(9, new Reading(99, 1.0)), "set within bounds should succeed");
+        assertEquals(99, list.elementAt(9).id, "set should overwrite the record");
+        assertEquals(3, list.indexOf(new Reading(3, 1.5)).get(), "indexOf should compare decoded records");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(10), "get past size should throw");
+    }
+
+    @Test
+    void testAddAllToItself() {
+        for (int i = 0; i < 5; i++) {
+            list.add(new Reading(i, i));
+        }
+        list.addAll(list);
+        assertEquals(10, list.size(), "Adding a list to itself should double it once");
+        assertEquals(new Reading(4, 4), list.elementAt(4), "Original records should stay in place");
+        assertEquals(new Reading(0, 0), list.elementAt(5), "Copied records should follow in order");
+        assertEquals(new Reading(4, 4), list.elementAt(9), "Copied records should follow in order");
+    }
+
+    @Test
+    void testRemoveAndIterator() {
+        for (int i = 0; i < 6; i++) {
+            list.add(new Reading(i, 0));
+        }
+        list.remove(new Reading(2, 0));
+
+        Iterator<Reading> iterator = list.iterator();
+        long[] ids = new long[5];
+        for (int i = 0; iterator.hasNext(); i++) {
+            ids[i] = iterator.nextElement().id;
+        }
+        assertArrayEquals(new long[]{0, 1, 3, 4, 5}, ids, "Records after the removed one should shift down");
+    }
+
+    @Test
+    void testSort() {
+        Random random = new Random(9);
+        for (int i = 0; i < 1_000; i++) {
+            list.add(new Reading(random.nextInt(100), i));
+        }
+
+        list.sort(Comparator.comparingLong(r -> r.id));
+
+        for (int i = 1; i < list.size(); i++) {
+            Reading previous = list.elementAt(i - 1);
+            Reading current = list.elementAt(i);
+            assertTrue(previous.id <= current.id, "Records should be in ascending id order");
+            if (previous.id == current.id) {
+                assertTrue(previous.value < current.value, "Sort should be stable");
+            }
+        }
+    }
+
+    @Test
+    void testClose() {
+        list.add(new Reading(1, 1));
+        list.close();
+        assertThrows(IllegalStateException.class, () -> list.add(new Reading(2, 2)), "Closed list should reject use");
+    }
+}
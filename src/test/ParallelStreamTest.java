@@ -0,0 +1,93 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+import collections.list.CustomArrayList;
+import core.ParallelStream;
+import core.Splitter;
+
+public class ParallelStreamTest {
+    private static final int SIZE = 200_000;
+    private CustomArrayList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new CustomArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            list.add(i);
+        }
+    }
+
+    @Test
+    void testSplitterHalvesExactly() {
+        Splitter<Integer> splitter = list.splitter();
+        assertEquals(SIZE, splitter.size(), "Splitter should report exact size");
+        Splitter<Integer> prefix = splitter.trySplit();
+        assertEquals(SIZE / 2, prefix.size(), "Prefix should take half the elements");
+        assertEquals(SIZE / 2, splitter.size(), "Remainder should keep the other half");
+
+        int[] first = {-1};
+        prefix.forEachRemaining(e -> { if (first[0] < 0) first[0] = e; });
+        assertEquals(0, first[0], "Prefix should start at the beginning of the list");
+        assertEquals(0, prefix.size(), "Splitter should be exhausted after traversal");
+    }
+
+    @Test
+    void testReduceMatchesSequential() {
+        long expected = list.stream().map(Integer::longValue).reduce(0L, Long::sum);
+        long actual = list.parallelStream().map(Integer::longValue).reduce(0L, Long::sum);
+        assertEquals(expected, actual, "Parallel reduce should match sequential reduce");
+        assertEquals(SIZE - 1, list.parallelStream().reduce(Math::max).get(), "Parallel reduce should find the max");
+    }
+
+    @Test
+    void testCollectPreservesOrder() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            CustomArrayList<Integer> result = list.parallelStream(pool)
+                    .filter(i -> i % 3 == 0)
+                    .map(i -> i / 3)
+                    .collect(CustomArrayList::new, CustomArrayList::add, CustomArrayList::addAll);
+
+            assertEquals((SIZE + 2) / 3, result.size(), "Parallel collect should keep every match");
+            for (int i = 0; i < result.size(); i++) {
+                assertEquals(i, result.get(i).get(), "Parallel collect should keep encounter order");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testCount() {
+        assertEquals(SIZE / 2, list.parallelStream().filter(i -> i % 2 == 0).count(), "Parallel count should match");
+        assertEquals(0, new CustomArrayList<Integer>().parallelStream().count(), "Empty list should count zero");
+    }
+
+    @Test
+    void testStreamCanRunSeveralTerminalOperations() {
+        ParallelStream<Integer> evens = list.parallelStream().filter(i -> i % 2 == 0);
+        assertEquals(SIZE / 2, evens.count(), "First terminal operation should see every element");
+        assertEquals(SIZE / 2, evens.count(), "Second terminal operation should see every element again");
+        assertEquals(SIZE - 2, evens.reduce(Math::max).get(), "A different terminal operation should also see every element");
+    }
+
+    @Test
+    void testReduceAccumulatesNullElements() {
+        int[] calls = {0};
+        long sum = list.parallelStream()
+                .map(i -> i == 0 ? null : i.longValue())
+                .reduce((left, right) -> {
+                    synchronized (calls) {
+                        calls[0]++;
+                    }
+                    return (left == null ? 0L : left) + (right == null ? 0L : right);
+                })
+                .get();
+        assertEquals((long) SIZE * (SIZE - 1) / 2, sum, "A null element should not reset the reduction");
+        assertEquals(SIZE - 1, calls[0], "Reduce should combine every element exactly once");
+    }
+}
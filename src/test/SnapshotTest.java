@@ -0,0 +1,230 @@
+package test;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import collections.list.CustomArrayList;
+import collections.list.CustomLinkedList;
+import collections.snapshot.Codecs;
+import collections.snapshot.ElementCodec;
+import collections.snapshot.SnapshotReader;
+import collections.snapshot.SnapshotWriter;
+import collections.stack.CustomStack;
+
+public class SnapshotTest {
+    // int array of any length, to exercise variable-length user codecs
+    private static final ElementCodec<int[]> INT_ARRAY = new ElementCodec<int[]>() {
+        @Override
+        public int sizeOf(int[] element) {
+            return element.length * Integer.BYTES;
+        }
+
+        @Override
+        public void encode(int[] element, ByteBuffer target) {
+            for (int value : element) {
+                target.putInt(value);
+            }
+        }
+
+        @Override
+        public int[] decode(ByteBuffer source) {
+            int[] values = new int[source.remaining() / Integer.BYTES];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = source.getInt();
+            }
+            return values;
+        }
+    };
+
+    private static <T> byte[] write(core.Collection<T> collection, ElementCodec<T> codec, int bufferSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new SnapshotWriter<>(Channels.newChannel(out), codec, bufferSize).write(collection);
+        return out.toByteArray();
+    }
+
+    private static <T> SnapshotReader<T> reader(byte[] bytes, ElementCodec<T> codec, int bufferSize) {
+        return new SnapshotReader<>(Channels.newChannel(new ByteArrayInputStream(bytes)), codec, bufferSize);
+    }
+
+    @Test
+    void testArrayListRoundTripAcrossBufferRefills() throws IOException {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i * 7);
+        }
+        byte[] bytes = write(list, Codecs.INT, 64);
+        assertEquals(14 + 10_000 * 8, bytes.length, "Each int should take a length prefix and four bytes");
+
+        CustomArrayList<Integer> copy = reader(bytes, Codecs.INT, 64).readArrayList();
+        assertEquals(10_000, copy.size(), "Copy should hold every element");
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i * 7, copy.elementAt(i), "Copy should keep element order");
+        }
+    }
+
+    @Test
+    void testLinkedListOfStrings() throws IOException {
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        list.add("alpha");
+        list.add("");
+        list.add("gr\u00fc\u00dfe \ud83d\ude00");
+
+        CustomLinkedList<String> copy = reader(write(list, Codecs.STRING, 32), Codecs.STRING, 32).readLinkedList();
+        assertEquals(3, copy.size(), "Copy should hold every string");
+        assertEquals("alpha", copy.get(0).get(), "First string should survive");
+        assertEquals("", copy.get(1).get(), "Empty string should survive");
+        assertEquals("gr\u00fc\u00dfe \ud83d\ude00", copy.get(2).get(), "Multi-byte characters should survive");
+    }
+
+    @Test
+    void testLoneSurrogatesAreReplaced() throws IOException {
+        CustomArrayList<String> list = new CustomArrayList<>();
+        list.add("ok\uD800x");
+        list.add("\uDC00");
+        list.add("end\uD83D");
+
+        CustomArrayList<String> copy = reader(write(list, Codecs.STRING, 32), Codecs.STRING, 32).readArrayList();
+        assertEquals(3, copy.size(), "Strings with unpaired surrogates should still be written");
+        assertEquals("ok?x", copy.elementAt(0), "An unpaired high surrogate should be written as '?'");
+        assertEquals("?", copy.elementAt(1), "An unpaired low surrogate should be written as '?'");
+        assertEquals("end?", copy.elementAt(2), "A trailing high surrogate should be written as '?'");
+    }
+
+    @Test
+    void testStringSizeOfMatchesEncodedBytes() {
+        String[] samples = {"", "abc", "\u00e9", "\u20ac", "\ud83d\ude00", "\uD800", "\uDC00\uD800", "a\uDBFF\uDFFFb", "\uD83D\uD83D\uDE00"};
+        for (String sample : samples) {
+            ByteBuffer target = ByteBuffer.allocate(64);
+            Codecs.STRING.encode(sample, target);
+            assertEquals(target.position(), Codecs.STRING.sizeOf(sample), "sizeOf should match the bytes encode writes");
+        }
+    }
+
+    // a header claiming about two billion elements must fail on the missing data, not on a huge presize
+    @Test
+    void testHugeHeaderCountDoesNotPresize() throws IOException {
+        byte[] bytes = write(new CustomArrayList<Integer>(), Codecs.INT, 64);
+        ByteBuffer.wrap(bytes).putLong(6, Integer.MAX_VALUE - 9);
+        assertThrows(EOFException.class, () -> reader(bytes, Codecs.INT, 64).readArrayList(),
+                "A list read should fail on the missing elements");
+        assertThrows(EOFException.class, () -> reader(bytes, Codecs.INT, 64).readStack(),
+                "A stack read should fail on the missing elements");
+    }
+
+    @Test
+    void testLargeSnapshotGrowsPastPresize() throws IOException {
+        CustomStack<Integer> stack = new CustomStack<>();
+        for (int i = 0; i < 100_000; i++) {
+            stack.push(i);
+        }
+        CustomStack<Integer> copy = reader(write(stack, Codecs.INT, 4096), Codecs.INT, 4096).readStack();
+        assertEquals(100_000, copy.size(), "Reading should grow the target past its presize");
+        assertEquals(99_999, copy.peek().get(), "Grown copy should keep the original order");
+    }
+
+    @Test
+    void testWriteRejectsSizeMismatch() {
+        CustomArrayList<Integer> overstated = new CustomArrayList<Integer>() {
+            @Override
+            public int size() {
+                return super.size() + 1;
+            }
+        };
+        CustomArrayList<Integer> understated = new CustomArrayList<Integer>() {
+            @Override
+            public int size() {
+                return super.size() - 1;
+            }
+        };
+        for (int i = 0; i < 3; i++) {
+            overstated.add(i);
+            understated.add(i);
+        }
+        assertThrows(IllegalStateException.class, () -> write(overstated, Codecs.INT, 64),
+                "Fewer elements than the header count should be rejected");
+        assertThrows(IllegalStateException.class, () -> write(understated, Codecs.INT, 64),
+                "More elements than the header count should be rejected");
+    }
+
+    @Test
+    void testStackKeepsOrder() throws IOException {
+        CustomStack<Long> stack = new CustomStack<>();
+        for (long i = 1; i <= 5; i++) {
+            stack.push(i);
+        }
+        CustomStack<Long> copy = reader(write(stack, Codecs.LONG, 64), Codecs.LONG, 64).readStack();
+        assertEquals(5, copy.size(), "Copy should hold every element");
+        assertEquals(5, copy.capacity(), "Bulk load should size the stack exactly once");
+        for (long i = 5; i >= 1; i--) {
+            assertEquals(i, copy.pop().get(), "Copy should pop in the original order");
+        }
+    }
+
+    @Test
+    void testUserCodecWithElementLargerThanBuffer() throws IOException {
+        CustomArrayList<int[]> list = new CustomArrayList<>();
+        list.add(new int[] {1, 2, 3});
+        int[] large = new int[1000];
+        Arrays.setAll(large, i -> i * i);
+        list.add(large);
+        list.add(new int[0]);
+
+        CustomArrayList<int[]> copy = reader(write(list, INT_ARRAY, 64), INT_ARRAY, 64).readArrayList();
+        assertArrayEquals(new int[] {1, 2, 3}, copy.elementAt(0), "Small element should survive");
+        assertArrayEquals(large, copy.elementAt(1), "Element larger than the buffer should survive");
+        assertEquals(0, copy.elementAt(2).length, "Empty element should survive");
+    }
+
+    @Test
+    void testEmptyCollection() throws IOException {
+        byte[] bytes = write(new CustomArrayList<Double>(), Codecs.DOUBLE, 64);
+        SnapshotReader<Double> reader = reader(bytes, Codecs.DOUBLE, 64);
+        assertEquals(0, reader.count(), "Header should record zero elements");
+        assertTrue(reader.readArrayList().isEmpty(), "Copy should be empty");
+    }
+
+    @Test
+    void testRejectsCorruptInput() throws IOException {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        list.add(1);
+        list.add(2);
+        byte[] bytes = write(list, Codecs.INT, 64);
+
+        byte[] badMagic = bytes.clone();
+        badMagic[0] ^= 0x7F;
+        assertThrows(IOException.class, () -> reader(badMagic, Codecs.INT, 64).readArrayList(), "Bad magic should be rejected");
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+        assertThrows(EOFException.class, () -> reader(truncated, Codecs.INT, 64).readArrayList(), "Truncated input should be rejected");
+    }
+
+    @Test
+    void testCodecSizeMismatchIsRejected() {
+        ElementCodec<Integer> lying = new ElementCodec<Integer>() {
+            @Override
+            public int sizeOf(Integer element) {
+                return 2;
+            }
+
+            @Override
+            public void encode(Integer element, ByteBuffer target) {
+                target.putInt(element);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer source) {
+                return source.getInt();
+            }
+        };
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        list.add(1);
+        assertThrows(IllegalStateException.class, () -> write(list, lying, 64), "Codec writing more than sizeOf should be rejected");
+    }
+}
@@ -0,0 +1,128 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import collections.list.CustomArrayList;
+import collections.list.CustomLinkedList;
+import core.Collection;
+
+public class StreamTest {
+    private CustomArrayList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new CustomArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            list.add(i);
+        }
+    }
+
+    @Test
+    void testMapFilterCollect() {
+        CustomArrayList<Integer> result = list.stream()
+                .filter(i -> i % 2 == 0)
+                .map(i -> i * 10)
+                .collect(CustomArrayList::new, CustomArrayList::add);
+
+        assertEquals(5, result.size(), "Collected list should contain only matching elements");
+        assertEquals(20, result.get(0).get(), "Mapped values should be in source order");
+        assertEquals(100, result.get(4).get(), "Mapped values should be in source order");
+    }
+
+    @Test
+    void testChainedFiltersFuseIntoOnePass() {
+        int[] tests = new int[3];
+        long count = list.stream()
+                .filter(i -> { tests[0]++; return i > 2; })
+                .filter(i -> { tests[1]++; return i < 9; })
+                .filter(i -> { tests[2]++; return i % 2 == 1; })
+                .count();
+
+        assertEquals(3, count, "Fused filters should keep 3, 5 and 7");
+        assertEquals(10, tests[0], "First filter should see every element once");
+        assertEquals(8, tests[1], "Second filter should only see survivors of the first");
+        assertEquals(6, tests[2], "Third filter should only see survivors of the second");
+    }
+
+    @Test
+    void testLimitShortCircuits() {
+        int[] pulled = new int[1];
+        CustomArrayList<Integer> result = list.stream()
+                .map(i -> { pulled[0]++; return i; })
+                .limit(3)
+                .collect(CustomArrayList::new, CustomArrayList::add);
+
+        assertEquals(3, result.size(), "Limit should cap the output");
+        assertEquals(3, pulled[0], "Limit should stop pulling from the source");
+    }
+
+    @Test
+    void testSkipAndDistinct() {
+        CustomLinkedList<Integer> values = new CustomLinkedList<>();
+        for (int i : new int[]{1, 1, 2, 3, 3, 3, 4}) {
+            values.add(i);
+        }
+        long distinct = values.stream().distinct().count();
+        assertEquals(4, distinct, "Distinct should drop repeated elements");
+        assertEquals(2, values.stream().skip(2).findFirst().get(), "Skip should drop leading elements");
+    }
+
+    @Test
+    void testFlatMap() {
+        CustomArrayList<Integer> result = list.stream()
+                .limit(3)
+                .flatMap(i -> {
+                    CustomArrayList<Integer> repeated = new CustomArrayList<>();
+                    for (int j = 0; j < i; j++) {
+                        repeated.add(i);
+                    }
+                    return repeated;
+                })
+                .collect(CustomArrayList::new, CustomArrayList::add);
+
+        assertEquals(6, result.size(), "flatMap should concatenate the inner collections");
+        assertEquals(3, result.get(5).get(), "flatMap should keep inner order");
+    }
+
+    @Test
+    void testTerminalOperations() {
+        assertEquals(55, list.stream().reduce(0, Integer::sum), "Reduce with identity should sum elements");
+        assertEquals(55, list.stream().reduce(Integer::sum).get(), "Reduce without identity should sum elements");
+        assertFalse(list.stream().filter(i -> i > 10).reduce(Integer::sum).isPresent(), "Reduce of nothing should be empty");
+        assertTrue(list.stream().anyMatch(i -> i == 7), "anyMatch should find a matching element");
+        assertFalse(list.stream().anyMatch(i -> i == 11), "anyMatch should not invent matches");
+        assertEquals(4, list.stream().filter(i -> i > 3).findFirst().get(), "findFirst should return first match");
+    }
+
+    @Test
+    void testNullFromMapIsAnElement() {
+        int[] pulled = {0};
+        boolean found = list.stream()
+                .map(i -> { pulled[0]++; return i == 1 ? null : i; })
+                .findFirst()
+                .isPresent();
+        assertFalse(found, "findFirst should stop at a null first element instead of skipping it");
+        assertEquals(1, pulled[0], "findFirst should not pull past the first element");
+
+        int[] calls = {0};
+        int sum = list.stream()
+                .map(i -> i == 1 ? null : i)
+                .reduce((left, right) -> {
+                    calls[0]++;
+                    return (left == null ? 0 : left) + (right == null ? 0 : right);
+                })
+                .get();
+        assertEquals(54, sum, "A null first element should be accumulated, not restart the reduction");
+        assertEquals(9, calls[0], "Reduce should call the accumulator once per element after the first");
+    }
+
+    @Test
+    void testStreamIsLazy() {
+        int[] calls = new int[1];
+        Collection<Integer> source = list;
+        source.stream().map(i -> calls[0]++);
+        assertEquals(0, calls[0], "Intermediate operations should not run before a terminal operation");
+    }
+}
@@ -0,0 +1,245 @@
+package test;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import collections.list.UnrolledLinkedList;
+import core.Collection;
+import core.Iterator;
+
+public class UnrolledLinkedListTest {
+    private UnrolledLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new UnrolledLinkedList<>(4);
+    }
+
+    private void assertSameElements(java.util.List<Integer> expected, UnrolledLinkedList<Integer> actual) {
+        assertEquals(expected.size(), actual.size(), "Size should match the reference list");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.elementAt(i), "Element " + i + " should match the reference list");
+        }
+        java.util.List<Integer> iterated = new ArrayList<>();
+        actual.forEach(iterated::add);
+        assertEquals(expected, iterated, "forEach should visit the elements in order");
+    }
+
+    @Test
+    void testAddAndGet() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        assertEquals(10, list.size(), "Size should count every add");
+        assertEquals(3, list.chunkCount(), "Appends should fill chunks before linking a new one");
+        assertEquals(7, list.get(7).get(), "get should find the element across chunks");
+        assertEquals(0, list.getFirst().get(), "First element should be the first added");
+        assertEquals(9, list.getLast().get(), "Last element should be the last added");
+    }
+
+    @Test
+    void testEmptyList() {
+        assertTrue(list.isEmpty(), "New list should be empty");
+        assertTrue(list.getFirst().isEmpty(), "Empty list has no first element");
+        assertTrue(list.getLast().isEmpty(), "Empty list has no last element");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0), "get on an empty list should throw");
+        assertFalse(list.iterator().hasNext(), "Iterator over an empty list should have no elements");
+    }
+
+    @Test
+    void testNullAndBoundsChecks() {
+        assertThrows(IllegalArgumentException.class, () -> list.add(null), "Adding null should throw");
+        assertThrows(IllegalArgumentException.class, () -> list.insert(0, null), "Inserting null should throw");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(1, 5), "Insert past the end should throw");
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<Integer>(1), "A chunk must hold at least two elements");
+        assertFalse(list.set(0, 1), "set out of bounds should return false");
+    }
+
+    @Test
+    void testInsertSplitsFullChunk() {
+        for (int i = 0; i < 4; i++) {
+            list.add(i * 10);
+        }
+        assertEquals(1, list.chunkCount(), "Four elements should fit one chunk");
+        list.insert(1, 5);
+        assertEquals(2, list.chunkCount(), "Inserting into a full chunk should split it");
+        assertSameElements(java.util.List.of(0, 5, 10, 20, 30), list);
+        list.insert(4, 25);
+        assertSameElements(java.util.List.of(0, 5, 10, 20, 25, 30), list);
+    }
+
+    @Test
+    void testAddFirst() {
+        for (int i = 0; i < 9; i++) {
+            list.addFirst(i);
+        }
+        assertSameElements(java.util.List.of(8, 7, 6, 5, 4, 3, 2, 1, 0), list);
+    }
+
+    @Test
+    void testRemoveMergesUnderfullChunks() {
+        for (int i = 0; i < 12; i++) {
+            list.add(i);
+        }
+        assertEquals(3, list.chunkCount(), "Twelve elements should fill three chunks");
+        list.remove(0);
+        list.remove(1);
+        list.remove(2);
+        assertEquals(3, list.chunkCount(), "An underfull chunk should borrow from a successor too full to merge");
+        assertSameElements(java.util.List.of(3, 4, 5, 6, 7, 8, 9, 10, 11), list);
+        list.remove(3);
+        assertEquals(2, list.chunkCount(), "An underfull chunk should merge with its successor when both fit");
+        assertSameElements(java.util.List.of(4, 5, 6, 7, 8, 9, 10, 11), list);
+        while (!list.isEmpty()) {
+            list.removeAt(0);
+        }
+        assertEquals(0, list.chunkCount(), "Emptied chunks should be unlinked");
+    }
+
+    @Test
+    void testRemoveAtReturnsElement() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        assertEquals(6, list.removeAt(6), "removeAt should return the removed element");
+        assertFalse(list.contains(6), "Removed element should be gone");
+        assertEquals(7, list.elementAt(6), "Later elements should shift down");
+    }
+
+    @Test
+    void testSetAndIndexOf() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        assertTrue(list.set(8, 80), "set within bounds should succeed");
+        assertEquals(8, list.indexOf(80).get(), "indexOf should count positions across chunks");
+        assertTrue(list.indexOf(8).isEmpty(), "Overwritten element should not be found");
+    }
+
+    @Test
+    void testIteratorRemoveAcrossChunks() {
+        java.util.List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            list.add(i);
+            if (i % 3 != 0) {
+                expected.add(i);
+            }
+        }
+        Iterator<Integer> iterator = list.iterator();
+        int visited = 0;
+        while (iterator.hasNext()) {
+            int value = iterator.nextElement();
+            assertEquals(visited++, value, "Iterator should visit every element once while removing");
+            if (value % 3 == 0) {
+                iterator.remove();
+            }
+        }
+        assertSameElements(expected, list);
+        Iterator<Integer> fresh = list.iterator();
+        assertThrows(IllegalStateException.class, fresh::remove, "remove before next should throw");
+    }
+
+    @Test
+    void testIteratorExhausted() {
+        list.add(1);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        assertThrows(NoSuchElementException.class, iterator::next, "next past the end should throw");
+    }
+
+    @Test
+    void testSortKeepsLayoutAndIsStable() {
+        UnrolledLinkedList<String> words = new UnrolledLinkedList<>(4);
+        String[] input = {"bb", "a1", "cc", "a2", "dd", "e", "a3"};
+        for (String word : input) {
+            words.add(word);
+        }
+        int chunks = words.chunkCount();
+        words.sort(Comparator.comparingInt(String::length).thenComparing(s -> s.charAt(0)));
+        assertEquals(chunks, words.chunkCount(), "Sort should not change the chunk layout");
+        assertEquals("e", words.elementAt(0), "Shortest element should come first");
+        assertEquals("a1", words.elementAt(1), "Equal elements should keep insertion order");
+        assertEquals("a2", words.elementAt(2), "Equal elements should keep insertion order");
+        assertEquals("a3", words.elementAt(3), "Equal elements should keep insertion order");
+        assertEquals("dd", words.getLast().get(), "Largest element should come last");
+    }
+
+    @Test
+    void testFilterAndFilterView() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        Collection<Integer> evens = list.filter(n -> n % 2 == 0);
+        Collection<Integer> view = list.filterView(n -> n % 2 == 0);
+        assertEquals(5, evens.size(), "filter should copy the matching elements");
+        assertEquals(5, view.size(), "filterView should count the matching elements");
+        list.add(10);
+        assertEquals(5, evens.size(), "filter result should not follow later changes");
+        assertEquals(6, view.size(), "filterView should follow later changes");
+    }
+
+    @Test
+    void testAddAllToItself() {
+        list.add(1);
+        list.add(2);
+        list.addAll(list);
+        assertSameElements(java.util.List.of(1, 2, 1, 2), list);
+    }
+
+    @Test
+    void testClear() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.clear();
+        assertTrue(list.isEmpty(), "clear should empty the list");
+        assertEquals(0, list.chunkCount(), "clear should drop every chunk");
+        list.add(42);
+        assertEquals(42, list.getFirst().get(), "List should be usable after clear");
+    }
+
+    @Test
+    void testRandomOperationsMatchReference() {
+        randomOperations(false);
+    }
+
+    @Test
+    void testRandomOperationsMatchReferenceWithIndex() {
+        randomOperations(true);
+    }
+
+    private void randomOperations(boolean indexed) {
+        list.setIndexed(indexed);
+        java.util.List<Integer> expected = new ArrayList<>();
+        Random random = new Random(11);
+        for (int step = 0; step < 5_000; step++) {
+            int operation = random.nextInt(6);
+            if (operation <= 1 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.insert(index, step);
+                expected.add(index, step);
+            } else if (operation == 2) {
+                list.addFirst(step);
+                expected.add(0, step);
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.removeAt(index), "removeAt should match the reference list");
+            } else if (operation == 4) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.elementAt(index), "elementAt should match the reference list");
+            } else {
+                int index = random.nextInt(expected.size());
+                list.set(index, -step);
+                expected.set(index, -step);
+            }
+        }
+        assertSameElements(expected, list);
+        assertTrue(list.chunkCount() <= expected.size() / 2 + 2,
+                "Split and merge should keep chunks at least about half full");
+    }
+}